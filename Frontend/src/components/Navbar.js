@@ -1,5 +1,6 @@
 import React, { useState, useEffect } from 'react';
 import { useNavigate } from 'react-router-dom';
+import { authAPI } from '../services/api';
 import './Navbar.css';
 
 const Navbar = ({ onAuthChange }) => {
@@ -34,7 +35,7 @@ const Navbar = ({ onAuthChange }) => {
   }, []);
 
   const handleLogout = () => {
-    localStorage.removeItem('jwt_token');
+    authAPI.logout();
     localStorage.removeItem('user_role');
     localStorage.removeItem('user_email');
     localStorage.removeItem('user_name');
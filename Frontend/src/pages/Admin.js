@@ -14,9 +14,10 @@ const Admin = () => {
   const [selectedLoan, setSelectedLoan] = useState(null);
   const [userProfile, setUserProfile] = useState(null);
   const [showProfile, setShowProfile] = useState(false);
+  const [nextCursor, setNextCursor] = useState(null);
 
-  // Fetch ALL loans (all statuses)
-  const fetchAllLoans = async () => {
+  // Fetch loans page by page; pass the previous page's cursor to append the next one
+  const fetchAllLoans = async (cursor = null) => {
     try {
       const token = localStorage.getItem('jwt_token');
       const apiUrl = process.env.REACT_APP_API_BASE_URL || 'http://localhost:8080/api';
@@ -29,14 +30,20 @@ const Admin = () => {
         endpoint = `/admin/loans/rejected`;
       }
       
+      if (cursor) {
+        endpoint += `?cursor=${encodeURIComponent(cursor)}`;
+      }
+      
       const response = await fetch(`${apiUrl}${endpoint}`, {
         headers: { 'Authorization': `Bearer ${token}` }
       });
 
       if (response.ok) {
         const data = await response.json();
-        const allLoans = Array.isArray(data) ? data : (data ? [data] : []);
+        const pageLoans = Array.isArray(data?.loans) ? data.loans : [];
+        const allLoans = cursor ? [...loans, ...pageLoans] : pageLoans;
         setLoans(allLoans);
+        setNextCursor(data?.nextCursor || null);
         filterLoansByStatus(allLoans, status);
       } else {
         throw new Error('Failed to fetch loans');
@@ -69,13 +76,12 @@ const Admin = () => {
       const token = localStorage.getItem('jwt_token');
       const apiUrl = process.env.REACT_APP_API_BASE_URL || 'http://localhost:8080/api';
       
-      const response = await fetch(`${apiUrl}/admin/users`, {
+      const response = await fetch(`${apiUrl}/admin/users/${userId}`, {
         headers: { 'Authorization': `Bearer ${token}` }
       });
 
       if (response.ok) {
-        const users = await response.json();
-        const user = users.find(u => u.id === userId);
+        const user = await response.json();
         setUserProfile(user);
         setShowProfile(true);
       }
@@ -209,6 +215,11 @@ const Admin = () => {
               ))}
             </tbody>
           </table>
+          {nextCursor && (
+            <div style={{ textAlign: 'center', marginTop: '16px' }}>
+              <button onClick={() => fetchAllLoans(nextCursor)}>Load more</button>
+            </div>
+          )}
         </div>
       )}
 
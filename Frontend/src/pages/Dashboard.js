@@ -14,7 +14,8 @@ const Dashboard = () => {
         const token = localStorage.getItem('jwt_token');
         const apiUrl = process.env.REACT_APP_API_BASE_URL || 'http://localhost:8080/api';
         
-        const response = await fetch(`${apiUrl}/loan/current`, {
+        // The browser revalidates with the summary's ETag and reuses its copy on 304
+        const response = await fetch(`${apiUrl}/loan/summary`, {
           headers: { 'Authorization': `Bearer ${token}` }
         });
 
@@ -23,7 +24,7 @@ const Dashboard = () => {
           if (text) {
             try {
               const data = JSON.parse(text);
-              setLoan(data);
+              setLoan(data.activeLoan);
             } catch (parseError) {
               console.error('JSON parse error:', parseError);
               setLoan(null);
@@ -11,9 +11,11 @@ export const authAPI = {
   register: (data) => axios.post(`${API_URL}/auth/register`, data),
   login: (data) => axios.post(`${API_URL}/auth/login`, data),
   resetPassword: (email) => axios.post(`${API_URL}/auth/reset-password`, { email }),
+  // Revokes the token server-side; local state is cleared even if that fails
   logout: () => {
+    const request = axios.post(`${API_URL}/auth/logout`, {}, getAuthHeader()).catch(() => {});
     localStorage.removeItem('jwt_token');
-    return Promise.resolve();
+    return request;
   },
   // Admin auth endpoints
   registerAdmin: (data) => axios.post(`${API_URL}/auth/register-admin`, data),
@@ -30,6 +32,8 @@ export const loanAPI = {
   applyLoan: (data) => axios.post(`${API_URL}/loan/apply`, data, getAuthHeader()),
   getCurrentLoan: () => axios.get(`${API_URL}/loan/current`, getAuthHeader()),
   getLoanHistory: () => axios.get(`${API_URL}/loan/history`, getAuthHeader()),
+  getSummary: () => axios.get(`${API_URL}/loan/summary`, getAuthHeader()),
+  getPayments: (cursor) => axios.get(`${API_URL}/loan/payments`, { ...getAuthHeader(), params: { cursor } }),
   payEmi: (data) => axios.post(`${API_URL}/loan/pay`, data, getAuthHeader()),
 };
 
@@ -38,6 +42,7 @@ export const adminAPI = {
   approveLoan: (loanId) => axios.post(`${API_URL}/admin/loan/approve/${loanId}`, {}, getAuthHeader()),
   rejectLoan: (loanId) => axios.post(`${API_URL}/admin/loan/reject/${loanId}`, {}, getAuthHeader()),
   getAllUsers: () => axios.get(`${API_URL}/admin/users`, getAuthHeader()),
+  getUser: (userId) => axios.get(`${API_URL}/admin/users/${userId}`, getAuthHeader()),
 };
 
 // EMI Calculator Utility
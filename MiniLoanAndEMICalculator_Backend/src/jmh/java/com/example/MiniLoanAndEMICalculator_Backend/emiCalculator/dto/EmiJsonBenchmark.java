@@ -0,0 +1,49 @@
+package com.example.MiniLoanAndEMICalculator_Backend.emiCalculator.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON (de)serialization cost of the calculator DTOs, which dominates a
+ * single /api/emi/calculate round trip once pricing is a table lookup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EmiJsonBenchmark {
+
+    private ObjectReader requestReader;
+    private ObjectWriter responseWriter;
+
+    private byte[] requestJson;
+    private EmiResponse response;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        requestReader = objectMapper.readerFor(EmiRequest.class);
+        responseWriter = objectMapper.writerFor(EmiResponse.class);
+
+        requestJson = "{\"amount\":25000,\"months\":12}".getBytes(StandardCharsets.UTF_8);
+        response = new EmiResponse(25000, 12, 5.93, 2966.62, 10599.44, 35599.44);
+    }
+
+    @Benchmark
+    public EmiRequest readEmiRequest() throws IOException {
+        return requestReader.readValue(requestJson);
+    }
+
+    @Benchmark
+    public byte[] writeEmiResponse() throws IOException {
+        return responseWriter.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.MiniLoanAndEMICalculator_Backend.emiCalculator.service;
+
+import com.example.MiniLoanAndEMICalculator_Backend.emiCalculator.dto.EmiRequest;
+import com.example.MiniLoanAndEMICalculator_Backend.emiCalculator.dto.EmiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EmiService quote paths: calculateEmi (served from the quote cache once the
+ * 1,024 request keys are warm), the formula the pricing table replaces, the
+ * fallback for fractional amounts, and the rate curve alone.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EmiServiceBenchmark {
+
+    private static final int SIZE = 1024;
+
+    private EmiService emiService;
+
+    private final EmiRequest[] wholeRequests = new EmiRequest[SIZE];
+    private final EmiRequest[] fractionalRequests = new EmiRequest[SIZE];
+
+    private int i;
+
+    @Setup
+    public void setUp() {
+        emiService = new EmiService(new ObjectMapper());
+
+        SplittableRandom random = new SplittableRandom(42);
+        for (int k = 0; k < SIZE; k++) {
+            int amount = 1000 + random.nextInt(49001);
+            int months = 1 + random.nextInt(24);
+            wholeRequests[k] = new EmiRequest(amount, months);
+            fractionalRequests[k] = new EmiRequest(amount + 0.5, months);
+        }
+    }
+
+    private int next() {
+        return i = (i + 1) & (SIZE - 1);
+    }
+
+    @Benchmark
+    public EmiResponse calculateEmiCached() {
+        return emiService.calculateEmi(wholeRequests[next()]);
+    }
+
+    @Benchmark
+    public EmiResponse calculateEmiFormula() {
+        EmiRequest request = wholeRequests[next()];
+        return emiService.calculateEmiByFormula(request.getAmount(), request.getMonths());
+    }
+
+    @Benchmark
+    public EmiResponse calculateEmiFractionalFallback() {
+        return emiService.calculateEmi(fractionalRequests[next()]);
+    }
+
+    @Benchmark
+    public double calculateRate() {
+        EmiRequest request = wholeRequests[next()];
+        return emiService.calculateRate(request.getAmount(), request.getMonths());
+    }
+}
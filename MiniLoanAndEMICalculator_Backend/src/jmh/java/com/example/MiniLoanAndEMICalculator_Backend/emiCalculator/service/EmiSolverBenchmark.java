@@ -0,0 +1,78 @@
+package com.example.MiniLoanAndEMICalculator_Backend.emiCalculator.service;
+
+import com.example.MiniLoanAndEMICalculator_Backend.emiCalculator.dto.EmiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reverse EMI solvers against the client-side approach they replace:
+ * bisecting on the principal with one full quote per step.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EmiSolverBenchmark {
+
+    private static final int SIZE = 1024;
+
+    private EmiService emiService;
+
+    private final double[] targetEmis = new double[SIZE];
+    private final int[] tenures = new int[SIZE];
+    private final double[] amounts = new double[SIZE];
+    private final double[] affordableEmis = new double[SIZE];
+
+    private int i;
+
+    @Setup
+    public void setUp() {
+        emiService = new EmiService(new ObjectMapper());
+
+        SplittableRandom random = new SplittableRandom(42);
+        for (int k = 0; k < SIZE; k++) {
+            amounts[k] = 1000 + random.nextInt(49001);
+            tenures[k] = 1 + random.nextInt(24);
+            targetEmis[k] = Math.round(amounts[k] / tenures[k] * 1.2 * 100.0) / 100.0;
+            // 12-60% of the amount per month always covers the interest
+            affordableEmis[k] = Math.round(amounts[k] * (0.12 + 0.48 * random.nextDouble()) * 100.0) / 100.0;
+        }
+    }
+
+    private int next() {
+        return i = (i + 1) & (SIZE - 1);
+    }
+
+    @Benchmark
+    public EmiResponse solveMaxPrincipal() {
+        int k = next();
+        return emiService.solveMaxPrincipal(targetEmis[k], tenures[k]);
+    }
+
+    @Benchmark
+    public EmiResponse solveMinTenure() {
+        int k = next();
+        return emiService.solveMinTenure(affordableEmis[k], amounts[k]);
+    }
+
+    @Benchmark
+    public double bisectPrincipalBaseline() {
+        int k = next();
+        double lo = 0.01;
+        double hi = 1_000_000;
+        while (hi - lo > 0.01) {
+            double mid = (lo + hi) / 2;
+            if (emiService.calculateEmiByFormula(mid, tenures[k]).getMonthlyEmi() <= targetEmis[k]) {
+                lo = mid;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.MiniLoanAndEMICalculator_Backend.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EmiCalculator hot paths. The boxed benchmarks autobox their arguments on
+ * every call, the way LoanService used to; the pre-boxed variants pass cached
+ * wrappers to separate the wrapper allocation from the arithmetic; the
+ * primitive variants call the allocation-free overloads.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EmiCalculatorBenchmark {
+
+    private static final int SIZE = 1024;
+    private static final double[] RATES = {8.0, 10.0, 12.0, 15.0};
+
+    private final double[] amounts = new double[SIZE];
+    private final double[] rates = new double[SIZE];
+    private final int[] tenures = new int[SIZE];
+    private final double[] incomes = new double[SIZE];
+
+    private final Double[] boxedAmounts = new Double[SIZE];
+    private final Double[] boxedRates = new Double[SIZE];
+    private final Integer[] boxedTenures = new Integer[SIZE];
+
+    private int i;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        for (int k = 0; k < SIZE; k++) {
+            amounts[k] = 1000 + random.nextInt(49001);
+            rates[k] = RATES[random.nextInt(RATES.length)];
+            tenures[k] = 1 + random.nextInt(24);
+            incomes[k] = 5000 + random.nextInt(200000);
+
+            boxedAmounts[k] = amounts[k];
+            boxedRates[k] = rates[k];
+            boxedTenures[k] = tenures[k];
+        }
+    }
+
+    private int next() {
+        return i = (i + 1) & (SIZE - 1);
+    }
+
+    @Benchmark
+    public Double calculateEmiBoxed() {
+        int k = next();
+        return EmiCalculator.calculateEmi(Double.valueOf(amounts[k]), Double.valueOf(rates[k]), Integer.valueOf(tenures[k]));
+    }
+
+    @Benchmark
+    public Double calculateEmiPreboxed() {
+        int k = next();
+        return EmiCalculator.calculateEmi(boxedAmounts[k], boxedRates[k], boxedTenures[k]);
+    }
+
+    @Benchmark
+    public double calculateEmiPrimitive() {
+        int k = next();
+        return EmiCalculator.calculateEmi(amounts[k], rates[k], tenures[k]);
+    }
+
+    @Benchmark
+    public Double calculateTotalPayableBoxed() {
+        int k = next();
+        return EmiCalculator.calculateTotalPayable(Double.valueOf(amounts[k]), Integer.valueOf(tenures[k]));
+    }
+
+    @Benchmark
+    public double calculateTotalPayablePrimitive() {
+        int k = next();
+        return EmiCalculator.calculateTotalPayable(amounts[k], tenures[k]);
+    }
+
+    @Benchmark
+    public Double getInterestRateBoxed() {
+        return EmiCalculator.getInterestRate(Double.valueOf(incomes[next()]));
+    }
+
+    @Benchmark
+    public double getInterestRatePrimitive() {
+        return EmiCalculator.getInterestRate(incomes[next()]);
+    }
+}
@@ -3,13 +3,20 @@ package com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.controller;
 import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.dto.*;
 import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.entity.Loan;
 import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.service.LoanService;
-import com.example.MiniLoanAndEMICalculator_Backend.user.service.UserService;
-import com.example.MiniLoanAndEMICalculator_Backend.security.JwtUtil;
-import com.example.MiniLoanAndEMICalculator_Backend.util.TokenExtractorUtil;
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.service.PaymentIdempotencyStore;
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.service.PrepaymentSimulator;
+import com.example.MiniLoanAndEMICalculator_Backend.security.AuthenticatedUser;
+import com.example.MiniLoanAndEMICalculator_Backend.util.AmortizationSchedule;
+import com.example.MiniLoanAndEMICalculator_Backend.util.Money;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import jakarta.validation.Valid;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RestController
@@ -20,18 +27,15 @@ public class LoanController {
     private LoanService loanService;
 
     @Autowired
-    private JwtUtil jwtUtil;
+    private PrepaymentSimulator prepaymentSimulator;
 
     @Autowired
-    private UserService userService;
+    private PaymentIdempotencyStore paymentIdempotencyStore;
 
     @PostMapping("/apply")
-    public ResponseEntity<?> applyLoan(@RequestHeader("Authorization") String token, @Valid @RequestBody LoanRequest request) {
+    public ResponseEntity<?> applyLoan(AuthenticatedUser user, @Valid @RequestBody LoanRequest request) {
         try {
-            String extractedToken = TokenExtractorUtil.extractToken(token);
-            String email = jwtUtil.extractUsername(extractedToken);
-            Long userId = userService.getUserByEmail(email).orElseThrow(() -> new RuntimeException("User not found")).getId();
-            Loan loan = loanService.applyLoan(userId, request.getLoanAmount(), request.getTenure());
+            Loan loan = loanService.applyLoan(user.id(), request.getLoanAmount(), request.getTenure());
             return ResponseEntity.ok(loan);
         } catch (Exception e) {
             return ResponseEntity.badRequest().body("Error: " + e.getMessage());
@@ -39,13 +43,10 @@ public class LoanController {
     }
 
     @GetMapping("/current")
-    public ResponseEntity<?> getCurrentLoan(@RequestHeader("Authorization") String token) {
+    public ResponseEntity<?> getCurrentLoan(AuthenticatedUser user) {
         try {
-            String extractedToken = TokenExtractorUtil.extractToken(token);
-            String email = jwtUtil.extractUsername(extractedToken);
-            Long userId = userService.getUserByEmail(email).orElseThrow(() -> new RuntimeException("User not found")).getId();
             try {
-                Loan loan = loanService.getCurrentLoan(userId);
+                Loan loan = loanService.getCurrentLoan(user.id());
                 return ResponseEntity.ok(loan);
             } catch (Exception e) {
                 return ResponseEntity.ok(null);
@@ -56,29 +57,145 @@ public class LoanController {
     }
 
     @GetMapping("/history")
-    public ResponseEntity<?> getLoanHistory(@RequestHeader("Authorization") String token) {
+    public ResponseEntity<?> getLoanHistory(AuthenticatedUser user) {
         try {
-            String extractedToken = TokenExtractorUtil.extractToken(token);
-            String email = jwtUtil.extractUsername(extractedToken);
-            Long userId = userService.getUserByEmail(email).orElseThrow(() -> new RuntimeException("User not found")).getId();
-            List<Loan> loans = loanService.getUserLoanHistory(userId);
+            List<LoanResponse> loans = loanService.getUserLoanHistory(user.id());
             return ResponseEntity.ok(loans);
         } catch (Exception e) {
             return ResponseEntity.badRequest().body("Error: " + e.getMessage());
         }
     }
 
+    @GetMapping("/summary")
+    public ResponseEntity<?> getSummary(AuthenticatedUser user) {
+        try {
+            LoanSummary summary = loanService.getSummary(user.email());
+            // A matching If-None-Match turns this into a 304 without a body
+            return ResponseEntity.ok()
+                    .eTag(summary.getVersion())
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .body(summary);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("Error: " + e.getMessage());
+        }
+    }
+
+    @GetMapping("/payments")
+    public ResponseEntity<?> getPaymentHistory(AuthenticatedUser user,
+                                               @RequestParam(required = false) String cursor,
+                                               @RequestParam(required = false) Integer size) {
+        try {
+            PaymentPage page = loanService.getPaymentHistory(user.id(), cursor, size);
+            return ResponseEntity.ok(page);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("Error: " + e.getMessage());
+        }
+    }
+
+    @GetMapping(value = "/payments", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamPaymentHistory(AuthenticatedUser user) {
+        try {
+            StreamingResponseBody body = out -> loanService.writePaymentHistoryNdjson(user.id(), out);
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+        } catch (Exception e) {
+            return streamedError(e);
+        }
+    }
+
+    @GetMapping("/schedule")
+    public ResponseEntity<StreamingResponseBody> getSchedule(AuthenticatedUser user) {
+        try {
+            Loan loan = loanService.getCurrentLoan(user.id());
+            AmortizationSchedule schedule = loanService.getSchedule(loan);
+            StreamingResponseBody body = schedule::writeNdjson;
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+        } catch (Exception e) {
+            return streamedError(e);
+        }
+    }
+
+    @PostMapping("/simulate")
+    public ResponseEntity<?> simulate(AuthenticatedUser user, @RequestBody List<SimulationScenario> scenarios) {
+        try {
+            Loan loan = loanService.getCurrentLoan(user.id());
+            List<SimulationResult> results = prepaymentSimulator.simulate(loan, scenarios);
+            return ResponseEntity.ok(results);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("Error: " + e.getMessage());
+        }
+    }
+
     @PostMapping("/pay")
-    public ResponseEntity<?> payEmi(@RequestHeader("Authorization") String token, @Valid @RequestBody PaymentRequest request) {
+    public ResponseEntity<?> payEmi(AuthenticatedUser user,
+                                    @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+                                    @RequestHeader(value = "Prefer", required = false) String prefer,
+                                    @Valid @RequestBody PaymentRequest request) {
+        try {
+            String key = null;
+            if (idempotencyKey != null) {
+                if (idempotencyKey.isBlank() || idempotencyKey.length() > 128) {
+                    throw new RuntimeException("Idempotency-Key must be 1 to 128 characters");
+                }
+                key = user.id() + ":" + idempotencyKey;
+            }
+
+            // Prefer: respond-async queues the payment for group commit and returns a ticket to poll
+            if (prefer != null && prefer.contains("respond-async")) {
+                if (key == null) {
+                    Loan loan = loanService.getCurrentLoan(user.id());
+                    return accepted(loanService.submitEmi(loan, request.getAmount(), null), false);
+                }
+                String scopedKey = key;
+                PaymentIdempotencyStore.Submission submission = paymentIdempotencyStore.submit(scopedKey,
+                        Money.ofRupees(request.getAmount()),
+                        () -> loanService.submitEmi(loanService.getCurrentLoan(user.id()), request.getAmount(), scopedKey));
+                if (submission.ticket() != null) {
+                    return accepted(submission.ticket(), submission.replayed());
+                }
+                return ResponseEntity.ok()
+                        .header("Idempotent-Replayed", "true")
+                        .body("Payment successful");
+            }
+
+            if (key == null) {
+                Loan loan = loanService.getCurrentLoan(user.id());
+                loanService.payEmi(loan.getId(), request.getAmount());
+                return ResponseEntity.ok("Payment successful");
+            }
+
+            String scopedKey = key;
+            PaymentIdempotencyStore.Receipt receipt = paymentIdempotencyStore.execute(scopedKey, Money.ofRupees(request.getAmount()),
+                    () -> loanService.payEmi(loanService.getCurrentLoan(user.id()).getId(), request.getAmount(), scopedKey));
+            return ResponseEntity.ok()
+                    .header("Idempotent-Replayed", String.valueOf(receipt.replayed()))
+                    .body("Payment successful");
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("Error: " + e.getMessage());
+        }
+    }
+
+    @GetMapping("/pay/status/{ticketId}")
+    public ResponseEntity<?> getPaymentStatus(AuthenticatedUser user, @PathVariable String ticketId) {
         try {
-            String extractedToken = TokenExtractorUtil.extractToken(token);
-            String email = jwtUtil.extractUsername(extractedToken);
-            Long userId = userService.getUserByEmail(email).orElseThrow(() -> new RuntimeException("User not found")).getId();
-            Loan loan = loanService.getCurrentLoan(userId);
-            loanService.payEmi(loan.getId(), request.getAmount());
-            return ResponseEntity.ok("Payment successful");
+            PaymentTicket ticket = loanService.getPaymentTicket(user.id(), ticketId);
+            return ResponseEntity.ok(ticket);
         } catch (Exception e) {
             return ResponseEntity.badRequest().body("Error: " + e.getMessage());
         }
     }
+
+    private static ResponseEntity<PaymentTicket> accepted(PaymentTicket ticket, boolean replayed) {
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/loan/pay/status/" + ticket.getId()))
+                .header("Idempotent-Replayed", String.valueOf(replayed))
+                .body(ticket);
+    }
+
+    // Streaming endpoints must return a StreamingResponseBody for Spring to
+    // stream them, so errors are written through one too
+    private static ResponseEntity<StreamingResponseBody> streamedError(Exception e) {
+        byte[] message = ("Error: " + e.getMessage()).getBytes(StandardCharsets.UTF_8);
+        StreamingResponseBody body = out -> out.write(message);
+        return ResponseEntity.badRequest().contentType(MediaType.TEXT_PLAIN).body(body);
+    }
 }
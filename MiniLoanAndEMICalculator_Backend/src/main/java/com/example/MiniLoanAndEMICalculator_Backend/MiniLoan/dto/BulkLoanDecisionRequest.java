@@ -0,0 +1,26 @@
+package com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.dto;
+
+import jakarta.validation.constraints.*;
+import java.util.List;
+
+public class BulkLoanDecisionRequest {
+    @NotEmpty
+    @Size(max = 1000)
+    private List<@NotNull Long> loanIds;
+
+    // Constructors
+    public BulkLoanDecisionRequest() {}
+
+    public BulkLoanDecisionRequest(List<Long> loanIds) {
+        this.loanIds = loanIds;
+    }
+
+    // Getters and Setters
+    public List<Long> getLoanIds() {
+        return loanIds;
+    }
+
+    public void setLoanIds(List<Long> loanIds) {
+        this.loanIds = loanIds;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.dto;
+
+public class BulkLoanDecisionResponse {
+    private int requested;
+    private int updated;        // loans moved to the requested status
+    private int autoRejected;   // other pending applications of approved users
+
+    // Constructors
+    public BulkLoanDecisionResponse() {}
+
+    public BulkLoanDecisionResponse(int requested, int updated, int autoRejected) {
+        this.requested = requested;
+        this.updated = updated;
+        this.autoRejected = autoRejected;
+    }
+
+    // Getters and Setters
+    public int getRequested() {
+        return requested;
+    }
+
+    public void setRequested(int requested) {
+        this.requested = requested;
+    }
+
+    public int getUpdated() {
+        return updated;
+    }
+
+    public void setUpdated(int updated) {
+        this.updated = updated;
+    }
+
+    public int getAutoRejected() {
+        return autoRejected;
+    }
+
+    public void setAutoRejected(int autoRejected) {
+        this.autoRejected = autoRejected;
+    }
+}
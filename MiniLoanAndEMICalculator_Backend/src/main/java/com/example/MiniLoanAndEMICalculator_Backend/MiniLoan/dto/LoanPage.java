@@ -0,0 +1,33 @@
+package com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.dto;
+
+import java.util.List;
+
+public class LoanPage {
+    private List<LoanResponse> loans;
+    private String nextCursor;   // null on the last page
+
+    // Constructors
+    public LoanPage() {}
+
+    public LoanPage(List<LoanResponse> loans, String nextCursor) {
+        this.loans = loans;
+        this.nextCursor = nextCursor;
+    }
+
+    // Getters and Setters
+    public List<LoanResponse> getLoans() {
+        return loans;
+    }
+
+    public void setLoans(List<LoanResponse> loans) {
+        this.loans = loans;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
@@ -1,7 +1,14 @@
 package com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.dto;
 
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.entity.Loan;
+import com.example.MiniLoanAndEMICalculator_Backend.util.Money;
 import java.time.LocalDateTime;
 
+/**
+ * Read-only view of a loan for list screens. Built by constructor
+ * expressions in LoanRepository, so only these columns are selected and
+ * no Loan entity is loaded into the persistence context.
+ */
 public class LoanResponse {
     private Long id;
     private Long userId;
@@ -20,6 +27,24 @@ public class LoanResponse {
     // Constructors
     public LoanResponse() {}
 
+    public LoanResponse(Long id, Long userId, long loanAmountPaise, Double interestRate, Integer tenure,
+                        long emiPaise, long totalPayablePaise, Long paidPaise, Loan.LoanStatus status,
+                        LocalDateTime startDate, LocalDateTime endDate, LocalDateTime createdAt) {
+        this.id = id;
+        this.userId = userId;
+        this.loanAmount = Money.toRupees(loanAmountPaise);
+        this.interestRate = interestRate;
+        this.tenure = tenure;
+        this.emi = Money.toRupees(emiPaise);
+        this.totalPayable = Money.toRupees(totalPayablePaise);
+        this.paidAmount = Money.toRupees(paidPaise);
+        this.remainingAmount = Money.toRupees(totalPayablePaise - paidPaise);
+        this.status = status.name();
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.createdAt = createdAt;
+    }
+
     // Getters and Setters
     public Long getId() {
         return id;
@@ -0,0 +1,69 @@
+package com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.dto;
+
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.entity.Loan;
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.entity.Payment;
+import com.example.MiniLoanAndEMICalculator_Backend.user.dto.UserSummary;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import java.util.List;
+
+/** Everything the borrower dashboard shows, read in one round trip. */
+public class LoanSummary {
+    private UserSummary profile;
+    private Loan activeLoan;              // null when no loan is APPROVED
+    private List<Loan> loans;             // newest first
+    private List<Payment> recentPayments; // newest first, across all loans
+    private String version;               // ETag of this summary
+
+    // Constructors
+    public LoanSummary() {}
+
+    public LoanSummary(UserSummary profile, Loan activeLoan, List<Loan> loans, List<Payment> recentPayments, String version) {
+        this.profile = profile;
+        this.activeLoan = activeLoan;
+        this.loans = loans;
+        this.recentPayments = recentPayments;
+        this.version = version;
+    }
+
+    // Getters and Setters
+    public UserSummary getProfile() {
+        return profile;
+    }
+
+    public void setProfile(UserSummary profile) {
+        this.profile = profile;
+    }
+
+    public Loan getActiveLoan() {
+        return activeLoan;
+    }
+
+    public void setActiveLoan(Loan activeLoan) {
+        this.activeLoan = activeLoan;
+    }
+
+    public List<Loan> getLoans() {
+        return loans;
+    }
+
+    public void setLoans(List<Loan> loans) {
+        this.loans = loans;
+    }
+
+    public List<Payment> getRecentPayments() {
+        return recentPayments;
+    }
+
+    public void setRecentPayments(List<Payment> recentPayments) {
+        this.recentPayments = recentPayments;
+    }
+
+    @JsonIgnore
+    public String getVersion() {
+        return version;
+    }
+
+    public void setVersion(String version) {
+        this.version = version;
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.dto;
+
+public class LockStats {
+    private int stripes;
+    private long acquisitions;
+    private long contended;           // acquisitions that had to wait
+    private double contentionRate;
+    private double totalWaitMillis;
+    private double maxWaitMillis;
+    private long hottestStripeContended;   // far above contended / stripes means skew, not too few stripes
+
+    // Constructors
+    public LockStats() {}
+
+    public LockStats(int stripes, long acquisitions, long contended, double contentionRate,
+                     double totalWaitMillis, double maxWaitMillis, long hottestStripeContended) {
+        this.stripes = stripes;
+        this.acquisitions = acquisitions;
+        this.contended = contended;
+        this.contentionRate = contentionRate;
+        this.totalWaitMillis = totalWaitMillis;
+        this.maxWaitMillis = maxWaitMillis;
+        this.hottestStripeContended = hottestStripeContended;
+    }
+
+    // Getters and Setters
+    public int getStripes() {
+        return stripes;
+    }
+
+    public void setStripes(int stripes) {
+        this.stripes = stripes;
+    }
+
+    public long getAcquisitions() {
+        return acquisitions;
+    }
+
+    public void setAcquisitions(long acquisitions) {
+        this.acquisitions = acquisitions;
+    }
+
+    public long getContended() {
+        return contended;
+    }
+
+    public void setContended(long contended) {
+        this.contended = contended;
+    }
+
+    public double getContentionRate() {
+        return contentionRate;
+    }
+
+    public void setContentionRate(double contentionRate) {
+        this.contentionRate = contentionRate;
+    }
+
+    public double getTotalWaitMillis() {
+        return totalWaitMillis;
+    }
+
+    public void setTotalWaitMillis(double totalWaitMillis) {
+        this.totalWaitMillis = totalWaitMillis;
+    }
+
+    public double getMaxWaitMillis() {
+        return maxWaitMillis;
+    }
+
+    public void setMaxWaitMillis(double maxWaitMillis) {
+        this.maxWaitMillis = maxWaitMillis;
+    }
+
+    public long getHottestStripeContended() {
+        return hottestStripeContended;
+    }
+
+    public void setHottestStripeContended(long hottestStripeContended) {
+        this.hottestStripeContended = hottestStripeContended;
+    }
+}
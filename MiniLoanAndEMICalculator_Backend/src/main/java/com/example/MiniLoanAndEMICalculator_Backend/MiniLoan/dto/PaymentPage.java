@@ -0,0 +1,34 @@
+package com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.dto;
+
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.entity.Payment;
+import java.util.List;
+
+public class PaymentPage {
+    private List<Payment> payments;
+    private String nextCursor;   // null on the last page
+
+    // Constructors
+    public PaymentPage() {}
+
+    public PaymentPage(List<Payment> payments, String nextCursor) {
+        this.payments = payments;
+        this.nextCursor = nextCursor;
+    }
+
+    // Getters and Setters
+    public List<Payment> getPayments() {
+        return payments;
+    }
+
+    public void setPayments(List<Payment> payments) {
+        this.payments = payments;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
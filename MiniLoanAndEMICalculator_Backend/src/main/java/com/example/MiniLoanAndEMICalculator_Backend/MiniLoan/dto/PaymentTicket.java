@@ -0,0 +1,69 @@
+package com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.dto;
+
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.entity.Payment;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Handle for a payment queued for group commit. The status fields are
+ * written by the ingestion writer thread and polled by clients.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PaymentTicket {
+
+    public enum Status {
+        QUEUED, COMPLETED, FAILED
+    }
+
+    private final String id;
+    private final Long userId;
+    private final CompletableFuture<Payment> completion = new CompletableFuture<>();
+    private volatile Status status = Status.QUEUED;
+    private volatile Long paymentId;
+    private volatile String error;
+
+    public PaymentTicket(String id, Long userId) {
+        this.id = id;
+        this.userId = userId;
+    }
+
+    public void complete(Payment payment) {
+        paymentId = payment.getId();
+        status = Status.COMPLETED;
+        completion.complete(payment);
+    }
+
+    public void fail(RuntimeException cause) {
+        error = cause.getMessage();
+        status = Status.FAILED;
+        completion.completeExceptionally(cause);
+    }
+
+    // Getters
+    public String getId() {
+        return id;
+    }
+
+    @JsonIgnore
+    public Long getUserId() {
+        return userId;
+    }
+
+    @JsonIgnore
+    public CompletableFuture<Payment> getCompletion() {
+        return completion;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public Long getPaymentId() {
+        return paymentId;
+    }
+
+    public String getError() {
+        return error;
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.dto;
+
+public class SimulationResult {
+    private String name;
+    private int closingMonth;
+    private Double totalInterest;
+    private Double interestSaved;   // against the plain schedule; negative when the scenario costs more
+    private Double totalPaid;
+
+    // Constructors
+    public SimulationResult() {}
+
+    public SimulationResult(String name, int closingMonth, Double totalInterest, Double interestSaved, Double totalPaid) {
+        this.name = name;
+        this.closingMonth = closingMonth;
+        this.totalInterest = totalInterest;
+        this.interestSaved = interestSaved;
+        this.totalPaid = totalPaid;
+    }
+
+    // Getters and Setters
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public int getClosingMonth() {
+        return closingMonth;
+    }
+
+    public void setClosingMonth(int closingMonth) {
+        this.closingMonth = closingMonth;
+    }
+
+    public Double getTotalInterest() {
+        return totalInterest;
+    }
+
+    public void setTotalInterest(Double totalInterest) {
+        this.totalInterest = totalInterest;
+    }
+
+    public Double getInterestSaved() {
+        return interestSaved;
+    }
+
+    public void setInterestSaved(Double interestSaved) {
+        this.interestSaved = interestSaved;
+    }
+
+    public Double getTotalPaid() {
+        return totalPaid;
+    }
+
+    public void setTotalPaid(Double totalPaid) {
+        this.totalPaid = totalPaid;
+    }
+}
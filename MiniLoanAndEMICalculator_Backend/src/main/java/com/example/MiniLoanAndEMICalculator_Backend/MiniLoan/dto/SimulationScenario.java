@@ -0,0 +1,86 @@
+package com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One what-if scenario for an active loan. Months are 1-based instalment
+ * numbers counted from the loan start.
+ */
+public class SimulationScenario {
+
+    private String name;
+    private List<Prepayment> prepayments = new ArrayList<>();
+    private List<Integer> skippedMonths = new ArrayList<>();
+    private Integer closeAtMonth;   // pay off the whole balance in this month
+
+    public SimulationScenario() {}
+
+    public SimulationScenario(String name, List<Prepayment> prepayments, List<Integer> skippedMonths, Integer closeAtMonth) {
+        this.name = name;
+        this.prepayments = prepayments;
+        this.skippedMonths = skippedMonths;
+        this.closeAtMonth = closeAtMonth;
+    }
+
+    public static class Prepayment {
+        private int month;
+        private Double amount;
+
+        public Prepayment() {}
+
+        public Prepayment(int month, Double amount) {
+            this.month = month;
+            this.amount = amount;
+        }
+
+        public int getMonth() {
+            return month;
+        }
+
+        public void setMonth(int month) {
+            this.month = month;
+        }
+
+        public Double getAmount() {
+            return amount;
+        }
+
+        public void setAmount(Double amount) {
+            this.amount = amount;
+        }
+    }
+
+    // Getters and Setters
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public List<Prepayment> getPrepayments() {
+        return prepayments;
+    }
+
+    public void setPrepayments(List<Prepayment> prepayments) {
+        this.prepayments = prepayments;
+    }
+
+    public List<Integer> getSkippedMonths() {
+        return skippedMonths;
+    }
+
+    public void setSkippedMonths(List<Integer> skippedMonths) {
+        this.skippedMonths = skippedMonths;
+    }
+
+    public Integer getCloseAtMonth() {
+        return closeAtMonth;
+    }
+
+    public void setCloseAtMonth(Integer closeAtMonth) {
+        this.closeAtMonth = closeAtMonth;
+    }
+}
@@ -1,10 +1,15 @@
 package com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.entity;
 
+import com.example.MiniLoanAndEMICalculator_Backend.util.Money;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "loans")
+@Table(name = "loans", indexes = {
+        @Index(name = "idx_loans_status_id", columnList = "status, id"),
+        @Index(name = "idx_loans_user_id", columnList = "user_id")
+})
 public class Loan {
 
     @Id
@@ -14,8 +19,9 @@ public class Loan {
     @Column(nullable = false)
     private Long userId;
 
-    @Column(nullable = false)
-    private Double loanAmount;
+    // Money columns are whole paise; see Money
+    @Column(name = "loan_amount_paise", nullable = false)
+    private long loanAmount;
 
     @Column(nullable = false)
     private Double interestRate;
@@ -23,17 +29,18 @@ public class Loan {
     @Column(nullable = false)
     private Integer tenure; // in months
 
-    @Column(nullable = false)
-    private Double emi;
+    @Column(name = "emi_paise", nullable = false)
+    private long emi;
 
-    @Column(nullable = false)
-    private Double totalPayable;
+    @Column(name = "total_payable_paise", nullable = false)
+    private long totalPayable;
 
-    @Column(nullable = false)
-    private Double paidAmount = 0.0;
+    // Balances are not stored; LoanLedger derives them from the payments ledger
+    @Transient
+    private long paidAmount = 0L;
 
-    @Column(nullable = false)
-    private Double remainingAmount;
+    @Transient
+    private long remainingAmount;
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
@@ -64,10 +71,10 @@ public class Loan {
 
     public Loan(Long userId, Double loanAmount, Double interestRate, Integer tenure) {
         this.userId = userId;
-        this.loanAmount = loanAmount;
+        this.loanAmount = Money.ofRupeesOrZero(loanAmount);
         this.interestRate = interestRate;
         this.tenure = tenure;
-        this.remainingAmount = loanAmount;
+        this.remainingAmount = this.loanAmount;
     }
 
     // Getters and Setters
@@ -86,9 +93,17 @@ public class Loan {
     }
 
     public Double getLoanAmount() {
-        return loanAmount;
+        return Money.toRupees(loanAmount);
     }
     public void setLoanAmount(Double loanAmount) {
+        this.loanAmount = Money.ofRupeesOrZero(loanAmount);
+    }
+
+    @JsonIgnore
+    public long getLoanAmountPaise() {
+        return loanAmount;
+    }
+    public void setLoanAmountPaise(long loanAmount) {
         this.loanAmount = loanAmount;
     }
 
@@ -107,30 +122,62 @@ public class Loan {
     }
 
     public Double getEmi() {
-        return emi;
+        return Money.toRupees(emi);
     }
     public void setEmi(Double emi) {
+        this.emi = Money.ofRupeesOrZero(emi);
+    }
+
+    @JsonIgnore
+    public long getEmiPaise() {
+        return emi;
+    }
+    public void setEmiPaise(long emi) {
         this.emi = emi;
     }
 
     public Double getTotalPayable() {
-        return totalPayable;
+        return Money.toRupees(totalPayable);
     }
     public void setTotalPayable(Double totalPayable) {
+        this.totalPayable = Money.ofRupeesOrZero(totalPayable);
+    }
+
+    @JsonIgnore
+    public long getTotalPayablePaise() {
+        return totalPayable;
+    }
+    public void setTotalPayablePaise(long totalPayable) {
         this.totalPayable = totalPayable;
     }
 
     public Double getPaidAmount() {
-        return paidAmount;
+        return Money.toRupees(paidAmount);
     }
     public void setPaidAmount(Double paidAmount) {
+        this.paidAmount = Money.ofRupeesOrZero(paidAmount);
+    }
+
+    @JsonIgnore
+    public long getPaidAmountPaise() {
+        return paidAmount;
+    }
+    public void setPaidAmountPaise(long paidAmount) {
         this.paidAmount = paidAmount;
     }
 
     public Double getRemainingAmount() {
-        return remainingAmount;
+        return Money.toRupees(remainingAmount);
     }
     public void setRemainingAmount(Double remainingAmount) {
+        this.remainingAmount = Money.ofRupeesOrZero(remainingAmount);
+    }
+
+    @JsonIgnore
+    public long getRemainingAmountPaise() {
+        return remainingAmount;
+    }
+    public void setRemainingAmountPaise(long remainingAmount) {
         this.remainingAmount = remainingAmount;
     }
 
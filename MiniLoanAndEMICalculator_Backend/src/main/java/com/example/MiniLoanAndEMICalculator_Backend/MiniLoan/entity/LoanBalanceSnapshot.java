@@ -0,0 +1,82 @@
+package com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+import java.time.LocalDateTime;
+
+/**
+ * Paid amount of a loan as of a ledger sequence, written every few payments
+ * so balances are rebuilt from the latest snapshot plus a short tail.
+ */
+@Entity
+@Immutable
+@Table(name = "loan_balance_snapshots", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_snapshots_loan_seq", columnNames = {"loan_id", "ledger_seq"})
+})
+public class LoanBalanceSnapshot {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long loanId;
+
+    @Column(name = "ledger_seq", nullable = false)
+    private long sequence;
+
+    @Column(name = "paid_amount_paise", nullable = false)
+    private long paidAmount; // in paise; see Money
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    // Constructors
+    public LoanBalanceSnapshot() {}
+
+    public LoanBalanceSnapshot(Long loanId, long sequence, long paidAmount) {
+        this.loanId = loanId;
+        this.sequence = sequence;
+        this.paidAmount = paidAmount;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getLoanId() {
+        return loanId;
+    }
+
+    public void setLoanId(Long loanId) {
+        this.loanId = loanId;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
+    public long getPaidAmountPaise() {
+        return paidAmount;
+    }
+
+    public void setPaidAmountPaise(long paidAmount) {
+        this.paidAmount = paidAmount;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -1,20 +1,39 @@
 package com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.entity;
 
+import com.example.MiniLoanAndEMICalculator_Backend.util.Money;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
 import java.time.LocalDateTime;
 
+/**
+ * One entry of a loan's append-only payment ledger. Entries are never
+ * updated; a loan's paid amount is the sum of its entries, starting from the
+ * latest LoanBalanceSnapshot. The per-loan sequence is unique, so two
+ * writers racing on the same loan cannot both append the same entry.
+ */
 @Entity
-@Table(name = "payments")
+@Immutable
+@Table(name = "payments", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_payments_loan_seq", columnNames = {"loan_id", "ledger_seq"})
+}, indexes = {
+        @Index(name = "idx_payments_loan_date", columnList = "loan_id, payment_date")
+})
 public class Payment {
+    // Sequence ids let Hibernate batch the inserts of a group commit
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payments_seq")
+    @SequenceGenerator(name = "payments_seq", sequenceName = "payments_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
     private Long loanId;
 
-    @Column(nullable = false)
-    private Double amountPaid;
+    @Column(name = "ledger_seq", nullable = false)
+    private long sequence;   // 1-based position in the loan's ledger
+
+    @Column(name = "amount_paid_paise", nullable = false)
+    private long amountPaid; // in paise; see Money
 
     @Column(nullable = false)
     private LocalDateTime paymentDate = LocalDateTime.now();
@@ -26,6 +45,9 @@ public class Payment {
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt = LocalDateTime.now();
 
+    @Column(name = "idempotency_key", unique = true, updatable = false, length = 160)
+    private String idempotencyKey;   // "<userId>:<Idempotency-Key header>", null when not sent
+
     public enum PaymentType {
         EMI, FULL
     }
@@ -35,7 +57,7 @@ public class Payment {
 
     public Payment(Long loanId, Double amountPaid, PaymentType paymentType) {
         this.loanId = loanId;
-        this.amountPaid = amountPaid;
+        this.amountPaid = Money.ofRupeesOrZero(amountPaid);
         this.paymentType = paymentType;
     }
 
@@ -56,11 +78,28 @@ public class Payment {
         this.loanId = loanId;
     }
 
+    public long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
     public Double getAmountPaid() {
-        return amountPaid;
+        return Money.toRupees(amountPaid);
     }
 
     public void setAmountPaid(Double amountPaid) {
+        this.amountPaid = Money.ofRupeesOrZero(amountPaid);
+    }
+
+    @JsonIgnore
+    public long getAmountPaidPaise() {
+        return amountPaid;
+    }
+
+    public void setAmountPaidPaise(long amountPaid) {
         this.amountPaid = amountPaid;
     }
 
@@ -87,4 +126,13 @@ public class Payment {
     public void setCreatedAt(LocalDateTime createdAt) {
         this.createdAt = createdAt;
     }
+
+    @JsonIgnore
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+
+    public void setIdempotencyKey(String idempotencyKey) {
+        this.idempotencyKey = idempotencyKey;
+    }
 }
@@ -0,0 +1,20 @@
+package com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.repository;
+
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.entity.LoanBalanceSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface LoanBalanceSnapshotRepository extends JpaRepository<LoanBalanceSnapshot, Long> {
+    Optional<LoanBalanceSnapshot> findFirstByLoanIdOrderBySequenceDesc(Long loanId);
+
+    @Query("select s from LoanBalanceSnapshot s where s.loanId in :loanIds and s.sequence = " +
+            "(select max(s2.sequence) from LoanBalanceSnapshot s2 where s2.loanId = s.loanId)")
+    List<LoanBalanceSnapshot> findLatestByLoanIdIn(@Param("loanIds") Collection<Long> loanIds);
+}
@@ -1,17 +1,87 @@
 package com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.repository;
 
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.dto.LoanResponse;
 import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.entity.Loan;
+import com.example.MiniLoanAndEMICalculator_Backend.user.entity.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface LoanRepository extends JpaRepository<Loan, Long> {
+    // Paid amount of loan l: latest balance snapshot plus the ledger entries after it
+    String PAID_PAISE = "(coalesce((select s.paidAmount from LoanBalanceSnapshot s where s.loanId = l.id and s.sequence = " +
+            "(select max(s2.sequence) from LoanBalanceSnapshot s2 where s2.loanId = l.id)), 0) + " +
+            "coalesce((select sum(p.amountPaid) from Payment p where p.loanId = l.id and p.sequence > " +
+            "coalesce((select max(s3.sequence) from LoanBalanceSnapshot s3 where s3.loanId = l.id), 0)), 0))";
+
+    String LOAN_RESPONSE = "select new com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.dto.LoanResponse(" +
+            "l.id, l.userId, l.loanAmount, l.interestRate, l.tenure, l.emi, l.totalPayable, " + PAID_PAISE + ", " +
+            "l.status, l.startDate, l.endDate, l.createdAt) from Loan l ";
+
     List<Loan> findByUserId(Long userId);
     Optional<Loan> findByUserIdAndStatus(Long userId, Loan.LoanStatus status);
-    List<Loan> findByStatus(Loan.LoanStatus status);
     Optional<Loan> findByIdAndUserId(Long id, Long userId);
     List<Loan> findAllByUserIdAndStatus(Long userId, Loan.LoanStatus status);
+    List<LoanOwner> findByIdInAndStatusOrderByIdAsc(Collection<Long> ids, Loan.LoanStatus status);
+
+    // List screens read LoanResponse projections, balances included, in one query
+
+    @Query(LOAN_RESPONSE + "where l.status = :status and l.id > :afterId order by l.id asc")
+    List<LoanResponse> findResponsesByStatusAfter(@Param("status") Loan.LoanStatus status,
+                                                  @Param("afterId") Long afterId, Limit limit);
+
+    @Query(LOAN_RESPONSE + "where l.userId = :userId order by l.id asc")
+    List<LoanResponse> findResponsesByUserId(@Param("userId") Long userId);
+
+    // Bulk updates bypass @PreUpdate, so updatedAt is set explicitly
+
+    @Modifying
+    @Query("update Loan l set l.status = 'APPROVED', l.startDate = :now, l.updatedAt = :now " +
+            "where l.id in :ids and l.status = 'PENDING'")
+    int approvePending(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("update Loan l set l.status = 'REJECTED', l.updatedAt = :now " +
+            "where l.id in :ids and l.status = 'PENDING'")
+    int rejectPending(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("update Loan l set l.status = 'REJECTED', l.updatedAt = :now " +
+            "where l.userId in :userIds and l.status = 'PENDING'")
+    int rejectPendingForUsers(@Param("userIds") Collection<Long> userIds, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("update Loan l set l.status = 'COMPLETED', l.endDate = :now, l.updatedAt = :now " +
+            "where l.id in :ids and l.status = 'APPROVED'")
+    int markCompleted(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * Dashboard read model: the user with each of their loans (newest first)
+     * and the loan's paid amount, derived from the latest balance snapshot
+     * plus the ledger entries after it. A user with no loans yields one row
+     * with a null loan.
+     */
+    @Query("select u as user, l as loan, " + PAID_PAISE + " as paid from User u left join Loan l on l.userId = u.id where u.email = :email " +
+            "order by l.createdAt desc, l.id desc")
+    List<DashboardRow> findDashboardRows(@Param("email") String email);
+
+    interface DashboardRow {
+        User getUser();
+        Loan getLoan();
+        Long getPaid();
+    }
+
+    interface LoanOwner {
+        Long getId();
+        Long getUserId();
+    }
 }
@@ -1,12 +1,71 @@
 package com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.repository;
 
 import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.entity.Payment;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
     List<Payment> findByLoanId(Long loanId);
+    Optional<Payment> findByIdempotencyKey(String idempotencyKey);
+    boolean existsByIdempotencyKey(String idempotencyKey);
+
+    @Query("select p from Payment p where p.loanId in (select l.id from Loan l where l.userId = :userId) " +
+            "order by p.paymentDate desc, p.id desc")
+    List<Payment> findRecentByUserId(@Param("userId") Long userId, Limit limit);
+
+    // Payment history across all of a user's loans, oldest first. The loan
+    // subquery is resolved once and each loan's payments are read from
+    // idx_payments_loan_date, so the history costs one query, not one per loan.
+
+    @Query("select p from Payment p where p.loanId in (select l.id from Loan l where l.userId = :userId) " +
+            "order by p.paymentDate asc, p.id asc")
+    List<Payment> findHistoryByUserId(@Param("userId") Long userId, Limit limit);
+
+    @Query("select p from Payment p where p.loanId in (select l.id from Loan l where l.userId = :userId) " +
+            "and (p.paymentDate > :afterDate or (p.paymentDate = :afterDate and p.id > :afterId)) " +
+            "order by p.paymentDate asc, p.id asc")
+    List<Payment> findHistoryByUserIdAfter(@Param("userId") Long userId, @Param("afterDate") LocalDateTime afterDate,
+                                           @Param("afterId") Long afterId, Limit limit);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "100"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select p from Payment p where p.loanId in (select l.id from Loan l where l.userId = :userId) " +
+            "order by p.paymentDate asc, p.id asc")
+    Stream<Payment> streamHistoryByUserId(@Param("userId") Long userId);
+
+    @Query("select coalesce(sum(p.amountPaid), 0) as paid, coalesce(max(p.sequence), :after) as lastSequence " +
+            "from Payment p where p.loanId = :loanId and p.sequence > :after")
+    LedgerTail findTail(@Param("loanId") Long loanId, @Param("after") long after);
+
+    @Query("select p.loanId as loanId, sum(p.amountPaid) as paid, max(p.sequence) as lastSequence from Payment p " +
+            "where p.loanId in :loanIds and p.sequence > coalesce(" +
+            "(select max(s.sequence) from LoanBalanceSnapshot s where s.loanId = p.loanId), 0) " +
+            "group by p.loanId")
+    List<LoanTail> sumTails(@Param("loanIds") Collection<Long> loanIds);
+
+    interface LedgerTail {
+        long getPaid();
+        long getLastSequence();
+    }
+
+    interface LoanTail {
+        Long getLoanId();
+        long getPaid();
+        long getLastSequence();
+    }
 }
@@ -0,0 +1,273 @@
+package com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.service;
+
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.entity.Loan;
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.entity.LoanBalanceSnapshot;
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.entity.Payment;
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.repository.LoanBalanceSnapshotRepository;
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.repository.LoanRepository;
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.repository.PaymentRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The payments table is the source of truth for loan balances. Appending a
+ * payment is a pure insert at the next per-loan sequence: a writer that
+ * loses a race to the same sequence hits the unique (loan_id, ledger_seq)
+ * constraint and retries against the new balance, while payments on
+ * different loans share no rows at all.
+ *
+ * Every {@code app.ledger.snapshot-every} entries a balance snapshot is
+ * inserted alongside, so reading a balance is the latest snapshot plus an
+ * aggregate over at most that many tail entries.
+ *
+ * {@link #appendAll} is the group-commit path: one transaction, batched
+ * inserts and a single completion UPDATE for a whole batch of payments.
+ */
+@Service
+public class LoanLedger {
+
+    private static final int MAX_ATTEMPTS = 100;
+
+    public record Entry(Long loanId, Payment.PaymentType type, long amountPaise, String idempotencyKey) {
+    }
+
+    /** Either the appended payment or the reason the entry was refused. */
+    public record Outcome(Payment payment, RuntimeException error) {
+    }
+
+    private final LoanRepository loanRepository;
+    private final PaymentRepository paymentRepository;
+    private final LoanBalanceSnapshotRepository snapshotRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int snapshotEvery;
+
+    public LoanLedger(LoanRepository loanRepository,
+                      PaymentRepository paymentRepository,
+                      LoanBalanceSnapshotRepository snapshotRepository,
+                      PlatformTransactionManager transactionManager,
+                      @Value("${app.ledger.snapshot-every:64}") int snapshotEvery) {
+        if (snapshotEvery < 1) {
+            throw new IllegalArgumentException("app.ledger.snapshot-every must be positive");
+        }
+        this.loanRepository = loanRepository;
+        this.paymentRepository = paymentRepository;
+        this.snapshotRepository = snapshotRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.snapshotEvery = snapshotEvery;
+    }
+
+    /**
+     * Appends a payment in its own transaction. EMI payments may not exceed
+     * the remaining balance; FULL payments must cover it and are recorded at
+     * the amount actually applied. The loan is marked COMPLETED when the
+     * balance reaches zero.
+     */
+    public Payment append(Long loanId, Payment.PaymentType type, long amountPaise, String idempotencyKey) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> appendOnce(loanId, type, amountPaise, idempotencyKey));
+            } catch (DataIntegrityViolationException e) {
+                if (idempotencyKey != null && paymentRepository.existsByIdempotencyKey(idempotencyKey)) {
+                    throw e;
+                }
+                if (attempt == MAX_ATTEMPTS) {
+                    throw new RuntimeException("Payment could not be applied, please retry");
+                }
+            }
+        }
+    }
+
+    /**
+     * Appends a batch of payments in one transaction. Entries are applied in
+     * order, so a later entry sees the balance left by earlier ones; an entry
+     * that fails validation is refused without affecting the rest. If the
+     * commit itself fails (a writer outside the batch won a sequence, or an
+     * idempotency key was reused) every entry is retried on its own.
+     */
+    public List<Outcome> appendAll(List<Entry> entries) {
+        try {
+            return transactionTemplate.execute(status -> appendAllOnce(entries));
+        } catch (DataIntegrityViolationException e) {
+            List<Outcome> outcomes = new ArrayList<>(entries.size());
+            for (Entry entry : entries) {
+                try {
+                    outcomes.add(new Outcome(append(entry.loanId(), entry.type(), entry.amountPaise(), entry.idempotencyKey()), null));
+                } catch (RuntimeException error) {
+                    outcomes.add(new Outcome(null, error));
+                }
+            }
+            return outcomes;
+        }
+    }
+
+    public long paidPaise(Long loanId) {
+        return tail(loanId).paid();
+    }
+
+    /**
+     * Fills the derived paid/remaining amounts of the given loans with two
+     * queries however many loans there are.
+     */
+    public <T extends Iterable<Loan>> T attachBalances(T loans) {
+        List<Long> ids = new ArrayList<>();
+        loans.forEach(loan -> ids.add(loan.getId()));
+        if (ids.isEmpty()) {
+            return loans;
+        }
+
+        Map<Long, Tail> tails = tails(ids);
+        for (Loan loan : loans) {
+            setBalance(loan, tails.getOrDefault(loan.getId(), Tail.EMPTY).paid());
+        }
+        return loans;
+    }
+
+    public Loan attachBalance(Loan loan) {
+        return attachBalance(loan, paidPaise(loan.getId()));
+    }
+
+    /** For callers that already read the paid amount, e.g. in a read-model query. */
+    public Loan attachBalance(Loan loan, long paidPaise) {
+        setBalance(loan, paidPaise);
+        return loan;
+    }
+
+    private Payment appendOnce(Long loanId, Payment.PaymentType type, long amountPaise, String idempotencyKey) {
+        Loan loan = loanRepository.findById(loanId)
+                .orElseThrow(() -> new RuntimeException("Loan not found"));
+
+        Tail tail = tail(loanId);
+        Payment payment = paymentRepository.saveAndFlush(nextEntry(loan, tail, type, amountPaise, idempotencyKey));
+
+        long paid = tail.paid() + payment.getAmountPaidPaise();
+        if (payment.getSequence() % snapshotEvery == 0) {
+            snapshotRepository.save(new LoanBalanceSnapshot(loanId, payment.getSequence(), paid));
+        }
+        if (paid == loan.getTotalPayablePaise()) {
+            loanRepository.markCompleted(List.of(loanId), LocalDateTime.now());
+        }
+        return payment;
+    }
+
+    private List<Outcome> appendAllOnce(List<Entry> entries) {
+        Set<Long> loanIds = new HashSet<>();
+        for (Entry entry : entries) {
+            loanIds.add(entry.loanId());
+        }
+        Map<Long, Loan> loans = new HashMap<>();
+        for (Loan loan : loanRepository.findAllById(loanIds)) {
+            loans.put(loan.getId(), loan);
+        }
+        Map<Long, Tail> tails = tails(loanIds);
+
+        List<Outcome> outcomes = new ArrayList<>(entries.size());
+        List<Payment> payments = new ArrayList<>();
+        List<LoanBalanceSnapshot> snapshots = new ArrayList<>();
+        Set<Long> completed = new HashSet<>();
+        for (Entry entry : entries) {
+            Loan loan = loans.get(entry.loanId());
+            Tail tail = tails.getOrDefault(entry.loanId(), Tail.EMPTY);
+            Payment payment;
+            try {
+                if (loan == null) {
+                    throw new RuntimeException("Loan not found");
+                }
+                if (completed.contains(loan.getId())) {
+                    throw new RuntimeException("Loan is not active");
+                }
+                payment = nextEntry(loan, tail, entry.type(), entry.amountPaise(), entry.idempotencyKey());
+            } catch (RuntimeException error) {
+                outcomes.add(new Outcome(null, error));
+                continue;
+            }
+
+            tail = new Tail(tail.paid() + payment.getAmountPaidPaise(), payment.getSequence());
+            tails.put(loan.getId(), tail);
+            payments.add(payment);
+            outcomes.add(new Outcome(payment, null));
+            if (payment.getSequence() % snapshotEvery == 0) {
+                snapshots.add(new LoanBalanceSnapshot(loan.getId(), payment.getSequence(), tail.paid()));
+            }
+            if (tail.paid() == loan.getTotalPayablePaise()) {
+                completed.add(loan.getId());
+            }
+        }
+
+        paymentRepository.saveAll(payments);
+        snapshotRepository.saveAll(snapshots);
+        if (!completed.isEmpty()) {
+            loanRepository.markCompleted(completed, LocalDateTime.now());
+        }
+        return outcomes;
+    }
+
+    private static Payment nextEntry(Loan loan, Tail tail, Payment.PaymentType type, long amountPaise, String idempotencyKey) {
+        if (loan.getStatus() != Loan.LoanStatus.APPROVED) {
+            throw new RuntimeException("Loan is not active");
+        }
+
+        long remaining = loan.getTotalPayablePaise() - tail.paid();
+        long applied = amountPaise;
+        if (type == Payment.PaymentType.FULL) {
+            if (amountPaise < remaining) {
+                throw new RuntimeException("Insufficient amount to close the loan");
+            }
+            applied = remaining;
+        } else if (amountPaise > remaining) {
+            throw new RuntimeException("Payment amount exceeds remaining balance");
+        }
+
+        Payment payment = new Payment();
+        payment.setLoanId(loan.getId());
+        payment.setSequence(tail.lastSequence() + 1);
+        payment.setAmountPaidPaise(applied);
+        payment.setPaymentType(type);
+        payment.setIdempotencyKey(idempotencyKey);
+        return payment;
+    }
+
+    private record Tail(long paid, long lastSequence) {
+        static final Tail EMPTY = new Tail(0, 0);
+    }
+
+    private Tail tail(Long loanId) {
+        long paid = 0;
+        long after = 0;
+        LoanBalanceSnapshot snapshot = snapshotRepository.findFirstByLoanIdOrderBySequenceDesc(loanId).orElse(null);
+        if (snapshot != null) {
+            paid = snapshot.getPaidAmountPaise();
+            after = snapshot.getSequence();
+        }
+        PaymentRepository.LedgerTail tail = paymentRepository.findTail(loanId, after);
+        return new Tail(paid + tail.getPaid(), tail.getLastSequence());
+    }
+
+    private Map<Long, Tail> tails(Collection<Long> loanIds) {
+        Map<Long, Tail> tails = new HashMap<>();
+        for (LoanBalanceSnapshot snapshot : snapshotRepository.findLatestByLoanIdIn(loanIds)) {
+            tails.put(snapshot.getLoanId(), new Tail(snapshot.getPaidAmountPaise(), snapshot.getSequence()));
+        }
+        for (PaymentRepository.LoanTail tail : paymentRepository.sumTails(loanIds)) {
+            Tail base = tails.getOrDefault(tail.getLoanId(), Tail.EMPTY);
+            tails.put(tail.getLoanId(), new Tail(base.paid() + tail.getPaid(), tail.getLastSequence()));
+        }
+        return tails;
+    }
+
+    private static void setBalance(Loan loan, long paidPaise) {
+        loan.setPaidAmountPaise(paidPaise);
+        loan.setRemainingAmountPaise(loan.getTotalPayablePaise() - paidPaise);
+    }
+}
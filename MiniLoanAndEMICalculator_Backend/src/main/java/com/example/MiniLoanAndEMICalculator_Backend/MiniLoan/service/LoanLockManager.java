@@ -0,0 +1,135 @@
+package com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.service;
+
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.dto.LockStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Striped locks for loan and user operations. Work on one loan (or one
+ * user) is serialized while unrelated loans only meet when they hash to the
+ * same stripe, so throughput scales with the stripe count instead of being
+ * capped at one operation for the whole service.
+ *
+ * User stripes are always taken before loan stripes, and several stripes of
+ * one kind in ascending index order, so callers cannot deadlock each other.
+ * Locks are held around whole transactions, so callers must acquire them
+ * before a transaction starts, never inside one.
+ */
+@Component
+public class LoanLockManager {
+
+    private final Stripes loans;
+    private final Stripes users;
+
+    public LoanLockManager(@Value("${app.locks.stripes:64}") int stripes) {
+        this.loans = new Stripes(stripes);
+        this.users = new Stripes(stripes);
+    }
+
+    public <T> T withLoan(Long loanId, Supplier<T> action) {
+        return withLocks(List.of(), List.of(loanId), action);
+    }
+
+    public <T> T withUser(Long userId, Supplier<T> action) {
+        return withLocks(List.of(userId), List.of(), action);
+    }
+
+    public <T> T withLocks(Collection<Long> userIds, Collection<Long> loanIds, Supplier<T> action) {
+        List<ReentrantLock> held = new ArrayList<>();
+        try {
+            users.lockAll(userIds, held);
+            loans.lockAll(loanIds, held);
+            return action.get();
+        } finally {
+            for (int i = held.size() - 1; i >= 0; i--) {
+                held.get(i).unlock();
+            }
+        }
+    }
+
+    public LockStats getLoanLockStats() {
+        return loans.stats();
+    }
+
+    public LockStats getUserLockStats() {
+        return users.stats();
+    }
+
+    private static final class Stripes {
+        private final ReentrantLock[] locks;
+        private final int mask;
+        private final LongAdder acquisitions = new LongAdder();
+        private final LongAdder contended = new LongAdder();
+        private final LongAdder waitNanos = new LongAdder();
+        private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+        private final AtomicLongArray contendedByStripe;
+
+        Stripes(int requested) {
+            if (requested < 1) {
+                throw new IllegalArgumentException("app.locks.stripes must be positive");
+            }
+            int size = Integer.highestOneBit(requested);
+            if (size < requested) {
+                size <<= 1;
+            }
+            this.locks = new ReentrantLock[size];
+            for (int i = 0; i < size; i++) {
+                locks[i] = new ReentrantLock();
+            }
+            this.mask = size - 1;
+            this.contendedByStripe = new AtomicLongArray(size);
+        }
+
+        void lockAll(Collection<Long> keys, List<ReentrantLock> held) {
+            TreeSet<Integer> indexes = new TreeSet<>();
+            for (Long key : keys) {
+                indexes.add(index(key));
+            }
+            for (int index : indexes) {
+                lock(index);
+                held.add(locks[index]);
+            }
+        }
+
+        private void lock(int index) {
+            ReentrantLock lock = locks[index];
+            acquisitions.increment();
+            if (lock.tryLock()) {
+                return;
+            }
+            long started = System.nanoTime();
+            lock.lock();
+            long waited = System.nanoTime() - started;
+            contended.increment();
+            contendedByStripe.incrementAndGet(index);
+            waitNanos.add(waited);
+            maxWaitNanos.accumulate(waited);
+        }
+
+        private int index(Long key) {
+            int h = Long.hashCode(key);
+            return (h ^ (h >>> 16)) & mask;
+        }
+
+        LockStats stats() {
+            long total = acquisitions.sum();
+            long waits = contended.sum();
+            long hottest = 0;
+            for (int i = 0; i < contendedByStripe.length(); i++) {
+                hottest = Math.max(hottest, contendedByStripe.get(i));
+            }
+            return new LockStats(locks.length, total, waits, total == 0 ? 0 : (double) waits / total,
+                    waitNanos.sum() / 1e6, maxWaitNanos.get() / 1e6, hottest);
+        }
+    }
+}
@@ -1,20 +1,52 @@
 package com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.service;
 
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.dto.BulkLoanDecisionResponse;
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.dto.LoanPage;
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.dto.LoanResponse;
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.dto.LoanSummary;
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.dto.PaymentPage;
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.dto.PaymentTicket;
 import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.entity.Loan;
 import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.entity.Payment;
 import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.repository.LoanRepository;
 import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.repository.PaymentRepository;
+import com.example.MiniLoanAndEMICalculator_Backend.user.dto.UserSummary;
 import com.example.MiniLoanAndEMICalculator_Backend.user.entity.User;
 import com.example.MiniLoanAndEMICalculator_Backend.user.service.UserService;
+import com.example.MiniLoanAndEMICalculator_Backend.util.AmortizationSchedule;
 import com.example.MiniLoanAndEMICalculator_Backend.util.EmiCalculator;
+import com.example.MiniLoanAndEMICalculator_Backend.util.Money;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.DigestUtils;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Service
 public class LoanService {
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int RECENT_PAYMENTS = 10;
+
     @Autowired
     private LoanRepository loanRepository;
 
@@ -24,7 +56,32 @@ public class LoanService {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private LoanLedger loanLedger;
+
+    @Autowired
+    private LoanLockManager loanLocks;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private PaymentIngestionPipeline paymentIngestion;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Status and payment changes run under LoanLockManager stripes (user
+    // before loan) and commit before the stripes are released
+
     public Loan applyLoan(Long userId, Double loanAmount, Integer tenure) {
+        return loanLocks.withUser(userId, () -> applyLoanLocked(userId, loanAmount, tenure));
+    }
+
+    private Loan applyLoanLocked(Long userId, Double loanAmount, Integer tenure) {
         User user = userService.getUserById(userId);
         
         // Check if user already has an active loan
@@ -33,126 +90,330 @@ public class LoanService {
             throw new RuntimeException("User already has an active loan");
         }
 
+        double amount = loanAmount;
+        int months = tenure;
+
         // Calculate interest rate based on income
-        Double interestRate = EmiCalculator.getInterestRate(user.getMonthlyIncome());
+        double interestRate = EmiCalculator.getInterestRate(user.getMonthlyIncome().doubleValue());
         
         // Calculate EMI
-        Double emi = EmiCalculator.calculateEmi(loanAmount, interestRate, tenure);
-        Double totalPayable = EmiCalculator.calculateTotalPayable(emi, tenure);
+        double emi = EmiCalculator.calculateEmi(amount, interestRate, months);
+        double totalPayable = EmiCalculator.calculateTotalPayable(emi, months);
 
         Loan loan = new Loan();
         loan.setUserId(userId);
-        loan.setLoanAmount(loanAmount);
+        loan.setLoanAmountPaise(Money.ofRupees(amount));
         loan.setInterestRate(interestRate);
         loan.setTenure(tenure);
-        loan.setEmi(Math.round(emi * 100.0) / 100.0);
-        loan.setTotalPayable(Math.round(totalPayable * 100.0) / 100.0);
-        loan.setRemainingAmount(loan.getTotalPayable());
+        loan.setEmiPaise(Money.ofRupees(emi));
+        loan.setTotalPayablePaise(Money.ofRupees(totalPayable));
+        loan.setRemainingAmountPaise(loan.getTotalPayablePaise());
         loan.setStatus(Loan.LoanStatus.PENDING);
 
         return loanRepository.save(loan);
     }
 
     public Loan approveLoan(Long loanId) {
+        Long userId = loanRepository.findById(loanId)
+                .orElseThrow(() -> new RuntimeException("Loan not found")).getUserId();
+        return loanLocks.withLocks(List.of(userId), List.of(loanId),
+                () -> transactionTemplate.execute(status -> approveLoanLocked(loanId)));
+    }
+
+    private Loan approveLoanLocked(Long loanId) {
         Loan loan = loanRepository.findById(loanId)
                 .orElseThrow(() -> new RuntimeException("Loan not found"));
+        if (loan.getStatus() != Loan.LoanStatus.PENDING) {
+            throw new RuntimeException("Loan is not pending");
+        }
         loan.setStatus(Loan.LoanStatus.APPROVED);
         loan.setStartDate(LocalDateTime.now());
-        Loan approvedLoan = loanRepository.save(loan);
+        Loan approvedLoan = loanRepository.saveAndFlush(loan);
         
         // Auto-reject all other pending loans for this user
-        List<Loan> otherPendingLoans = loanRepository.findAllByUserIdAndStatus(loan.getUserId(), Loan.LoanStatus.PENDING);
-        for (Loan pendingLoan : otherPendingLoans) {
-            pendingLoan.setStatus(Loan.LoanStatus.REJECTED);
-            loanRepository.save(pendingLoan);
-        }
+        loanRepository.rejectPendingForUsers(List.of(loan.getUserId()), LocalDateTime.now());
         
-        return approvedLoan;
+        return loanLedger.attachBalance(approvedLoan);
     }
 
     public Loan rejectLoan(Long loanId) {
-        Loan loan = loanRepository.findById(loanId)
-                .orElseThrow(() -> new RuntimeException("Loan not found"));
-        loan.setStatus(Loan.LoanStatus.REJECTED);
-        return loanRepository.save(loan);
+        return loanLocks.withLoan(loanId, () -> {
+            Loan loan = loanRepository.findById(loanId)
+                    .orElseThrow(() -> new RuntimeException("Loan not found"));
+            if (loan.getStatus() != Loan.LoanStatus.PENDING) {
+                throw new RuntimeException("Loan is not pending");
+            }
+            loan.setStatus(Loan.LoanStatus.REJECTED);
+            return loanLedger.attachBalance(loanRepository.save(loan));
+        });
+    }
+
+    /**
+     * Approves the pending loans among {@code loanIds} in three statements
+     * however long the list is. Where a user has several pending loans in the
+     * list, the oldest is approved; every other pending application of an
+     * approved user is then rejected in one UPDATE.
+     */
+    public BulkLoanDecisionResponse approveLoans(List<Long> loanIds) {
+        Map<Long, Long> loanIdByUser = new LinkedHashMap<>();
+        for (LoanRepository.LoanOwner owner : loanRepository.findByIdInAndStatusOrderByIdAsc(loanIds, Loan.LoanStatus.PENDING)) {
+            loanIdByUser.putIfAbsent(owner.getUserId(), owner.getId());
+        }
+        if (loanIdByUser.isEmpty()) {
+            return new BulkLoanDecisionResponse(loanIds.size(), 0, 0);
+        }
+
+        // The UPDATEs re-check PENDING, so candidates that changed before the
+        // locks were taken are skipped
+        return loanLocks.withLocks(loanIdByUser.keySet(), loanIdByUser.values(), () -> transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            int approved = loanRepository.approvePending(loanIdByUser.values(), now);
+            int autoRejected = loanRepository.rejectPendingForUsers(loanIdByUser.keySet(), now);
+            return new BulkLoanDecisionResponse(loanIds.size(), approved, autoRejected);
+        }));
+    }
+
+    public BulkLoanDecisionResponse rejectLoans(List<Long> loanIds) {
+        return loanLocks.withLocks(List.of(), loanIds, () -> transactionTemplate.execute(status -> {
+            int rejected = loanRepository.rejectPending(loanIds, LocalDateTime.now());
+            return new BulkLoanDecisionResponse(loanIds.size(), rejected, 0);
+        }));
     }
 
     public Loan getCurrentLoan(Long userId) {
-        return loanRepository.findByUserIdAndStatus(userId, Loan.LoanStatus.APPROVED)
+        Loan loan = loanRepository.findByUserIdAndStatus(userId, Loan.LoanStatus.APPROVED)
                 .orElseThrow(() -> new RuntimeException("No active loan found"));
+        return loanLedger.attachBalance(loan);
+    }
+
+    public List<LoanResponse> getUserLoanHistory(Long userId) {
+        return loanRepository.findResponsesByUserId(userId);
     }
 
-    public List<Loan> getUserLoanHistory(Long userId) {
-        return loanRepository.findByUserId(userId);
+    /**
+     * Dashboard read model for the signed-in borrower: one query for the
+     * profile, loans and balances, and one for the latest payments. The
+     * version hashes everything shown, so it changes whenever the dashboard does.
+     */
+    public LoanSummary getSummary(String email) {
+        List<LoanRepository.DashboardRow> rows = loanRepository.findDashboardRows(email);
+        if (rows.isEmpty()) {
+            throw new RuntimeException("User not found");
+        }
+        User user = rows.get(0).getUser();
+
+        StringBuilder version = new StringBuilder()
+                .append(user.getId()).append('|').append(user.getUpdatedAt());
+        List<Loan> loans = new ArrayList<>();
+        Loan activeLoan = null;
+        for (LoanRepository.DashboardRow row : rows) {
+            Loan loan = row.getLoan();
+            if (loan == null) {
+                continue;
+            }
+            loans.add(loanLedger.attachBalance(loan, row.getPaid()));
+            if (loan.getStatus() == Loan.LoanStatus.APPROVED) {
+                activeLoan = loan;
+            }
+            version.append('|').append(loan.getId()).append(':').append(loan.getStatus())
+                    .append(':').append(loan.getUpdatedAt()).append(':').append(row.getPaid());
+        }
+
+        List<Payment> recentPayments = loans.isEmpty()
+                ? List.of()
+                : paymentRepository.findRecentByUserId(user.getId(), Limit.of(RECENT_PAYMENTS));
+        for (Payment payment : recentPayments) {
+            version.append('|').append(payment.getId());
+        }
+
+        String etag = DigestUtils.md5DigestAsHex(version.toString().getBytes(StandardCharsets.UTF_8));
+        return new LoanSummary(UserSummary.of(user), activeLoan, loans, recentPayments, etag);
     }
 
-    public List<Loan> getPendingLoans() {
-        return loanRepository.findByStatus(Loan.LoanStatus.PENDING);
+    public LoanPage getPendingLoans(String cursor, Integer size) {
+        return getLoansByStatus(Loan.LoanStatus.PENDING, cursor, size);
     }
 
-    public List<Loan> getApprovedLoans() {
-        return loanRepository.findByStatus(Loan.LoanStatus.APPROVED);
+    public LoanPage getApprovedLoans(String cursor, Integer size) {
+        return getLoansByStatus(Loan.LoanStatus.APPROVED, cursor, size);
     }
 
-    public List<Loan> getRejectedLoans() {
-        return loanRepository.findByStatus(Loan.LoanStatus.REJECTED);
+    public LoanPage getRejectedLoans(String cursor, Integer size) {
+        return getLoansByStatus(Loan.LoanStatus.REJECTED, cursor, size);
     }
 
-    public void payEmi(Long loanId, Double amount) {
-        Loan loan = loanRepository.findById(loanId)
-                .orElseThrow(() -> new RuntimeException("Loan not found"));
+    /**
+     * Keyset page over (status, id): seeks past the cursor's id on the
+     * status index, so each page costs the same however deep it is.
+     * One extra row is fetched to tell whether another page follows.
+     */
+    private LoanPage getLoansByStatus(Loan.LoanStatus status, String cursor, Integer size) {
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : size;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new RuntimeException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        long afterId = cursor == null || cursor.isBlank() ? 0L : decodeCursor(status, cursor);
 
-        if (loan.getStatus() != Loan.LoanStatus.APPROVED) {
-            throw new RuntimeException("Loan is not active");
+        List<LoanResponse> loans = loanRepository.findResponsesByStatusAfter(status, afterId, Limit.of(pageSize + 1));
+        if (loans.size() <= pageSize) {
+            return new LoanPage(loans, null);
         }
+        loans = loans.subList(0, pageSize);
+        return new LoanPage(loans, encodeCursor(status, loans.get(pageSize - 1).getId()));
+    }
 
-        if (amount > loan.getRemainingAmount()) {
-            throw new RuntimeException("Payment amount exceeds remaining balance");
+    private static String encodeCursor(Loan.LoanStatus status, long lastId) {
+        String raw = status.name() + ":" + lastId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static long decodeCursor(Loan.LoanStatus status, String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int colon = raw.indexOf(':');
+            if (colon < 0 || !raw.substring(0, colon).equals(status.name())) {
+                throw new IllegalArgumentException();
+            }
+            return Long.parseLong(raw.substring(colon + 1));
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Invalid cursor");
         }
+    }
 
-        loan.setPaidAmount(loan.getPaidAmount() + amount);
-        loan.setRemainingAmount(loan.getRemainingAmount() - amount);
+    // Payments are ledger appends; LoanLedger runs each in its own
+    // transaction, so these must not be called inside one. The loan stripe
+    // spares same-loan payments the ledger's optimistic retries.
 
-        if (loan.getRemainingAmount() <= 0) {
-            loan.setStatus(Loan.LoanStatus.COMPLETED);
-            loan.setEndDate(LocalDateTime.now());
+    public void payEmi(Long loanId, Double amount) {
+        payEmi(loanId, amount, null);
+    }
+
+    public Payment payEmi(Long loanId, Double amount, String idempotencyKey) {
+        long amountPaise = Money.ofRupees(amount);
+        if (paymentIngestion.isEnabled()) {
+            // The writer takes the loan stripe itself, so wait without holding it.
+            // The ticket carries the owner so a timed-out payment can still be looked up.
+            Long userId = loanRepository.findById(loanId)
+                    .orElseThrow(() -> new RuntimeException("Loan not found")).getUserId();
+            return paymentIngestion.await(paymentIngestion.submit(userId,
+                    new LoanLedger.Entry(loanId, Payment.PaymentType.EMI, amountPaise, idempotencyKey)));
         }
+        return loanLocks.withLoan(loanId,
+                () -> loanLedger.append(loanId, Payment.PaymentType.EMI, amountPaise, idempotencyKey));
+    }
 
-        loanRepository.save(loan);
+    /**
+     * Queues an EMI payment for group commit and returns at once. The amount
+     * is checked against the balance of {@code loan} now; the ledger checks
+     * it again when the batch is written.
+     */
+    public PaymentTicket submitEmi(Loan loan, Double amount, String idempotencyKey) {
+        if (!paymentIngestion.isEnabled()) {
+            throw new RuntimeException("Asynchronous payments are not enabled");
+        }
+        long amountPaise = Money.ofRupees(amount);
+        if (amountPaise > loan.getRemainingAmountPaise()) {
+            throw new RuntimeException("Payment amount exceeds remaining balance");
+        }
+        return paymentIngestion.submit(loan.getUserId(),
+                new LoanLedger.Entry(loan.getId(), Payment.PaymentType.EMI, amountPaise, idempotencyKey));
+    }
 
-        Payment payment = new Payment();
-        payment.setLoanId(loanId);
-        payment.setAmountPaid(amount);
-        payment.setPaymentType(Payment.PaymentType.EMI);
-        paymentRepository.save(payment);
+    public PaymentTicket getPaymentTicket(Long userId, String ticketId) {
+        return paymentIngestion.getTicket(ticketId)
+                .filter(ticket -> userId.equals(ticket.getUserId()))
+                .orElseThrow(() -> new RuntimeException("Payment ticket not found"));
     }
 
     public void payFullLoan(Long loanId, Double amount) {
-        Loan loan = loanRepository.findById(loanId)
-                .orElseThrow(() -> new RuntimeException("Loan not found"));
+        long amountPaise = Money.ofRupees(amount);
+        loanLocks.withLoan(loanId,
+                () -> loanLedger.append(loanId, Payment.PaymentType.FULL, amountPaise, null));
+    }
+
+    public List<Payment> getLoanPayments(Long loanId) {
+        return paymentRepository.findByLoanId(loanId);
+    }
 
-        if (loan.getStatus() != Loan.LoanStatus.APPROVED) {
-            throw new RuntimeException("Loan is not active");
+    /**
+     * Keyset page over all of a user's payments in (paymentDate, id) order,
+     * read with one query however many loans the user has had.
+     */
+    public PaymentPage getPaymentHistory(Long userId, String cursor, Integer size) {
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : size;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new RuntimeException("Page size must be between 1 and " + MAX_PAGE_SIZE);
         }
 
-        if (amount < loan.getRemainingAmount()) {
-            throw new RuntimeException("Insufficient amount to close the loan");
+        List<Payment> payments;
+        if (cursor == null || cursor.isBlank()) {
+            payments = paymentRepository.findHistoryByUserId(userId, Limit.of(pageSize + 1));
+        } else {
+            Payment after = decodePaymentCursor(cursor);
+            payments = paymentRepository.findHistoryByUserIdAfter(userId, after.getPaymentDate(), after.getId(),
+                    Limit.of(pageSize + 1));
         }
+        if (payments.size() <= pageSize) {
+            return new PaymentPage(payments, null);
+        }
+        payments = payments.subList(0, pageSize);
+        return new PaymentPage(payments, encodePaymentCursor(payments.get(pageSize - 1)));
+    }
 
-        loan.setPaidAmount(loan.getTotalPayable());
-        loan.setRemainingAmount(0.0);
-        loan.setStatus(Loan.LoanStatus.COMPLETED);
-        loan.setEndDate(LocalDateTime.now());
-        loanRepository.save(loan);
+    /**
+     * Streams every payment of the user as NDJSON in date order. Rows come
+     * off a JDBC cursor and are detached once written, so memory stays flat
+     * however long the history is.
+     */
+    public void writePaymentHistoryNdjson(Long userId, OutputStream out) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        readOnly.setReadOnly(true);
+        readOnly.executeWithoutResult(status -> {
+            try (Stream<Payment> payments = paymentRepository.streamHistoryByUserId(userId);
+                 JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.setRootValueSeparator(null);
+                Iterator<Payment> rows = payments.iterator();
+                int written = 0;
+                while (rows.hasNext()) {
+                    Payment payment = rows.next();
+                    objectMapper.writeValue(generator, payment);
+                    generator.writeRaw('\n');
+                    entityManager.detach(payment);
+                    if (++written % 100 == 0) {
+                        generator.flush();
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
 
-        Payment payment = new Payment();
-        payment.setLoanId(loanId);
-        payment.setAmountPaid(amount);
-        payment.setPaymentType(Payment.PaymentType.FULL);
-        paymentRepository.save(payment);
+    private static String encodePaymentCursor(Payment last) {
+        String raw = last.getPaymentDate() + "|" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
     }
 
-    public List<Payment> getLoanPayments(Long loanId) {
-        return paymentRepository.findByLoanId(loanId);
+    private static Payment decodePaymentCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int bar = raw.indexOf('|');
+            if (bar < 0) {
+                throw new IllegalArgumentException();
+            }
+            Payment after = new Payment();
+            after.setPaymentDate(LocalDateTime.parse(raw.substring(0, bar)));
+            after.setId(Long.parseLong(raw.substring(bar + 1)));
+            return after;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new RuntimeException("Invalid cursor");
+        }
+    }
+
+    public AmortizationSchedule getSchedule(Loan loan) {
+        double monthlyRate = loan.getInterestRate() / 100 / 12;
+        return new AmortizationSchedule(Money.toRupees(loan.getLoanAmountPaise()), monthlyRate,
+                Money.toRupees(loan.getEmiPaise()), loan.getTenure());
     }
 }
@@ -0,0 +1,157 @@
+package com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.service;
+
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.dto.PaymentTicket;
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.entity.Payment;
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.repository.PaymentRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Dedupes retried payments by Idempotency-Key. Recent keys live in a
+ * bounded, expiring in-memory map, so a replay is answered without going
+ * near the loan row; a retry that arrives while the original is still
+ * running waits for its outcome instead of paying twice.
+ *
+ * Once a key has been evicted or the process restarted, the payments table
+ * answers instead: a key missing from the map is looked up by its unique
+ * idempotency_key column before the payment runs, so a retry is replayed
+ * even when the loan has since been closed or cannot take the amount again.
+ * The unique constraint still catches two instances racing on one key: the
+ * duplicate insert fails, its transaction rolls back, and the stored
+ * payment is returned instead.
+ *
+ * Queued (respond-async) payments share the same keys: a retry gets the
+ * original ticket back while it is remembered, or the receipt once the
+ * payment is stored, and never queues the payment a second time.
+ */
+@Component
+public class PaymentIdempotencyStore {
+
+    public record Receipt(Long paymentId, long amountPaise, boolean replayed) {
+    }
+
+    /** Outcome of {@link #submit}: a ticket to poll, or the receipt of a payment already stored. */
+    public record Submission(PaymentTicket ticket, Receipt receipt, boolean replayed) {
+    }
+
+    private record QueuedTicket(PaymentTicket ticket, long amountPaise) {
+    }
+
+    private final PaymentRepository paymentRepository;
+    private final Cache<String, CompletableFuture<Receipt>> receipts;
+    private final Cache<String, QueuedTicket> tickets;
+
+    public PaymentIdempotencyStore(PaymentRepository paymentRepository,
+                                   @Value("${app.payment.idempotency.ttl:PT24H}") Duration ttl,
+                                   @Value("${app.payment.idempotency.max-size:100000}") long maxSize) {
+        this.paymentRepository = paymentRepository;
+        this.receipts = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .build();
+        // Tickets are only pollable for as long as the ingestion pipeline keeps them
+        this.tickets = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofHours(1))
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    /**
+     * Runs {@code payment} once per key. Failed attempts are forgotten so the
+     * client can retry them; successful ones are replayed with
+     * {@link Receipt#replayed()} set.
+     */
+    public Receipt execute(String key, long amountPaise, Supplier<Payment> payment) {
+        CompletableFuture<Receipt> claim = new CompletableFuture<>();
+        CompletableFuture<Receipt> existing = receipts.asMap().putIfAbsent(key, claim);
+        if (existing != null) {
+            return replay(existing, amountPaise);
+        }
+
+        try {
+            Payment stored = paymentRepository.findByIdempotencyKey(key).orElse(null);
+            if (stored != null) {
+                claim.complete(new Receipt(stored.getId(), stored.getAmountPaidPaise(), false));
+                return replay(claim, amountPaise);
+            }
+            Payment saved = payment.get();
+            Receipt receipt = new Receipt(saved.getId(), saved.getAmountPaidPaise(), false);
+            claim.complete(receipt);
+            return receipt;
+        } catch (DataIntegrityViolationException e) {
+            Payment original = paymentRepository.findByIdempotencyKey(key).orElseThrow(() -> e);
+            Receipt receipt = new Receipt(original.getId(), original.getAmountPaidPaise(), false);
+            claim.complete(receipt);
+            return replay(claim, amountPaise);
+        } catch (RuntimeException e) {
+            receipts.asMap().remove(key, claim);
+            claim.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Queues {@code submit} once per key. The claim on the key completes
+     * when the ticket does; a failed ticket releases the key so the client
+     * can try again.
+     */
+    public Submission submit(String key, long amountPaise, Supplier<PaymentTicket> submit) {
+        CompletableFuture<Receipt> claim = new CompletableFuture<>();
+        CompletableFuture<Receipt> existing = receipts.asMap().putIfAbsent(key, claim);
+        if (existing != null) {
+            QueuedTicket queued = tickets.getIfPresent(key);
+            if (queued != null) {
+                if (queued.amountPaise() != amountPaise) {
+                    throw new RuntimeException("Idempotency-Key was already used for a different amount");
+                }
+                return new Submission(queued.ticket(), null, true);
+            }
+            return new Submission(null, replay(existing, amountPaise), true);
+        }
+
+        try {
+            Payment stored = paymentRepository.findByIdempotencyKey(key).orElse(null);
+            if (stored != null) {
+                claim.complete(new Receipt(stored.getId(), stored.getAmountPaidPaise(), false));
+                return new Submission(null, replay(claim, amountPaise), true);
+            }
+            PaymentTicket ticket = submit.get();
+            tickets.put(key, new QueuedTicket(ticket, amountPaise));
+            ticket.getCompletion().whenComplete((saved, error) -> {
+                if (error == null) {
+                    claim.complete(new Receipt(saved.getId(), saved.getAmountPaidPaise(), false));
+                } else {
+                    tickets.asMap().remove(key);
+                    receipts.asMap().remove(key, claim);
+                    claim.completeExceptionally(error);
+                }
+            });
+            return new Submission(ticket, null, false);
+        } catch (RuntimeException e) {
+            receipts.asMap().remove(key, claim);
+            claim.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private static Receipt replay(CompletableFuture<Receipt> original, long amountPaise) {
+        Receipt receipt;
+        try {
+            receipt = original.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+        if (receipt.amountPaise() != amountPaise) {
+            throw new RuntimeException("Idempotency-Key was already used for a different amount");
+        }
+        return new Receipt(receipt.paymentId(), receipt.amountPaise(), true);
+    }
+}
@@ -0,0 +1,227 @@
+package com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.service;
+
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.dto.PaymentTicket;
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.entity.Payment;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Group-commit ingestion for EMI payments. Callers enqueue validated
+ * payments and get a {@link PaymentTicket} back; a single writer thread
+ * drains the queue in micro-batches of up to {@code batch-size} payments,
+ * waiting at most {@code linger} for a batch to fill, and hands each batch
+ * to {@link LoanLedger#appendAll} so month-end bursts cost one transaction
+ * per batch instead of one per payment.
+ *
+ * Off by default ({@code app.payment.ingest.enabled}); when off, payments
+ * are appended synchronously as before.
+ *
+ * A batch that blows up fails its own tickets and the writer moves on; if
+ * the writer ever exits, the pipeline stops taking work and fails whatever
+ * is still queued, so no caller is left waiting on a ticket nobody will
+ * complete.
+ */
+@Service
+public class PaymentIngestionPipeline {
+
+    private record Queued(LoanLedger.Entry entry, PaymentTicket ticket) {
+    }
+
+    private final LoanLedger loanLedger;
+    private final LoanLockManager loanLocks;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long lingerNanos;
+    private final Duration awaitTimeout;
+    private final BlockingQueue<Queued> queue;
+    private final Cache<String, PaymentTicket> tickets;
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder ingested = new LongAdder();
+    private volatile boolean running;
+    private Thread writer;
+
+    public PaymentIngestionPipeline(LoanLedger loanLedger,
+                                    LoanLockManager loanLocks,
+                                    @Value("${app.payment.ingest.enabled:false}") boolean enabled,
+                                    @Value("${app.payment.ingest.batch-size:100}") int batchSize,
+                                    @Value("${app.payment.ingest.linger:PT0.005S}") Duration linger,
+                                    @Value("${app.payment.ingest.queue-capacity:10000}") int queueCapacity,
+                                    @Value("${app.payment.ingest.await-timeout:PT30S}") Duration awaitTimeout) {
+        if (batchSize < 1 || queueCapacity < 1 || linger.isNegative() || awaitTimeout.isNegative() || awaitTimeout.isZero()) {
+            throw new IllegalArgumentException("Invalid app.payment.ingest settings");
+        }
+        this.loanLedger = loanLedger;
+        this.loanLocks = loanLocks;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.lingerNanos = linger.toNanos();
+        this.awaitTimeout = awaitTimeout;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.tickets = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofHours(1))
+                .maximumSize(queueCapacity * 10L)
+                .build();
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        writer = new Thread(this::drain, "payment-ingest");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (writer != null) {
+            writer.join(TimeUnit.SECONDS.toMillis(30));
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public PaymentTicket submit(Long userId, LoanLedger.Entry entry) {
+        if (!running) {
+            throw new RuntimeException("Payment ingestion is not running");
+        }
+        PaymentTicket ticket = new PaymentTicket(UUID.randomUUID().toString(), userId);
+        Queued queued = new Queued(entry, ticket);
+        tickets.put(ticket.getId(), ticket);
+        if (!queue.offer(queued)) {
+            tickets.invalidate(ticket.getId());
+            throw new RuntimeException("Payment queue is full, please retry");
+        }
+        // The writer may have exited between the check above and the offer
+        if (!running && queue.remove(queued)) {
+            tickets.invalidate(ticket.getId());
+            throw new RuntimeException("Payment ingestion is not running");
+        }
+        return ticket;
+    }
+
+    /**
+     * Waits up to {@code await-timeout} for a queued payment to be written.
+     * On timeout the payment may still go through; the ticket tells.
+     */
+    public Payment await(PaymentTicket ticket) {
+        try {
+            return ticket.getCompletion().get(awaitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : new RuntimeException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new RuntimeException("Payment is still being processed, check ticket " + ticket.getId());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for payment " + ticket.getId());
+        }
+    }
+
+    public Optional<PaymentTicket> getTicket(String ticketId) {
+        return Optional.ofNullable(tickets.getIfPresent(ticketId));
+    }
+
+    /** Batches flushed so far; with {@link #getIngested()} gives the mean batch size. */
+    public long getBatches() {
+        return batches.sum();
+    }
+
+    public long getIngested() {
+        return ingested.sum();
+    }
+
+    private void drain() {
+        List<Queued> batch = new ArrayList<>(batchSize);
+        try {
+            while (running || !queue.isEmpty()) {
+                Queued first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + lingerNanos;
+                while (batch.size() < batchSize) {
+                    long left = deadline - System.nanoTime();
+                    Queued next = left > 0 ? queue.poll(left, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                try {
+                    flush(batch);
+                } catch (Throwable t) {
+                    failPending(batch, t);
+                }
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            running = false;
+            queue.drainTo(batch);
+            failPending(batch, new RuntimeException("Payment ingestion stopped"));
+        }
+    }
+
+    private static void failPending(List<Queued> batch, Throwable t) {
+        RuntimeException cause = t instanceof RuntimeException e ? e : new RuntimeException("Payment ingestion failed", t);
+        for (Queued queued : batch) {
+            if (!queued.ticket().getCompletion().isDone()) {
+                queued.ticket().fail(cause);
+            }
+        }
+    }
+
+    private void flush(List<Queued> batch) {
+        List<LoanLedger.Entry> entries = new ArrayList<>(batch.size());
+        Set<Long> loanIds = new HashSet<>();
+        for (Queued queued : batch) {
+            entries.add(queued.entry());
+            loanIds.add(queued.entry().loanId());
+        }
+
+        batches.increment();
+        ingested.add(batch.size());
+        List<LoanLedger.Outcome> outcomes;
+        try {
+            outcomes = loanLocks.withLocks(List.of(), loanIds, () -> loanLedger.appendAll(entries));
+        } catch (RuntimeException e) {
+            for (Queued queued : batch) {
+                queued.ticket().fail(e);
+            }
+            return;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            LoanLedger.Outcome outcome = outcomes.get(i);
+            if (outcome.error() == null) {
+                batch.get(i).ticket().complete(outcome.payment());
+            } else {
+                batch.get(i).ticket().fail(outcome.error());
+            }
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.service;
+
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.dto.SimulationResult;
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.dto.SimulationScenario;
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.entity.Loan;
+import com.example.MiniLoanAndEMICalculator_Backend.util.Money;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Evaluates part-prepayment, skipped-EMI and early-closure scenarios against
+ * a loan's schedule. Scenarios are independent, so they run in parallel on a
+ * dedicated ForkJoin pool; the sequential mode gives the same results in the
+ * same order on the calling thread and is what tests use.
+ *
+ * Balances are simulated in paise with interest rounded to the paisa each
+ * month, matching AmortizationSchedule: the last instalment clears whatever
+ * is left. A skipped EMI capitalises that month's interest and pushes the
+ * last instalment back by a month.
+ *
+ * Simulations start from the loan's ledger, not from origination: the amount
+ * paid so far counts as that many whole EMIs from month 1, and any remainder
+ * as a prepayment right after them. Scenario months are loan months and must
+ * come after the instalments already paid; totals and savings cover the
+ * remaining months only.
+ */
+@Service
+public class PrepaymentSimulator {
+
+    public enum Mode {
+        PARALLEL, SEQUENTIAL
+    }
+
+    private static final int MAX_SCENARIOS = 1000;
+    private static final int MAX_MONTHS = 600;
+
+    private final ForkJoinPool pool;
+
+    public PrepaymentSimulator(@Value("${app.simulator.parallelism:0}") int parallelism) {
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    public List<SimulationResult> simulate(Loan loan, List<SimulationScenario> scenarios) {
+        return simulate(loan, scenarios, Mode.PARALLEL);
+    }
+
+    public List<SimulationResult> simulate(Loan loan, List<SimulationScenario> scenarios, Mode mode) {
+        if (scenarios == null || scenarios.isEmpty()) {
+            throw new IllegalArgumentException("At least one scenario is required");
+        }
+        if (scenarios.size() > MAX_SCENARIOS) {
+            throw new IllegalArgumentException("At most " + MAX_SCENARIOS + " scenarios are allowed");
+        }
+
+        long emi = loan.getEmiPaise();
+        int tenure = loan.getTenure();
+        double monthlyRate = loan.getInterestRate() / 100 / 12;
+        Start start = start(loan.getLoanAmountPaise(), loan.getPaidAmountPaise(), emi, tenure, monthlyRate);
+
+        Outcome baseline = run(start, emi, tenure, monthlyRate, new SimulationScenario());
+
+        IntStream indexes = IntStream.range(0, scenarios.size());
+        if (mode == Mode.SEQUENTIAL) {
+            return indexes.mapToObj(i -> evaluate(start, emi, tenure, monthlyRate, baseline, scenarios.get(i))).toList();
+        }
+        try {
+            return pool.submit(() -> indexes.parallel()
+                    .mapToObj(i -> evaluate(start, emi, tenure, monthlyRate, baseline, scenarios.get(i)))
+                    .toList()).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Simulation interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new RuntimeException("Simulation failed", e.getCause());
+        }
+    }
+
+    private SimulationResult evaluate(Start start, long emi, int tenure, double monthlyRate, Outcome baseline,
+                                      SimulationScenario scenario) {
+        Outcome outcome = run(start, emi, tenure, monthlyRate, scenario);
+        return new SimulationResult(
+                scenario.getName(),
+                outcome.closingMonth,
+                Money.toRupees(outcome.interest),
+                Money.toRupees(baseline.interest - outcome.interest),
+                Money.toRupees(outcome.paid)
+        );
+    }
+
+    private record Outcome(int closingMonth, long interest, long paid) {
+    }
+
+    // Balance after the last month already paid
+    private record Start(int month, long balance) {
+    }
+
+    private static Start start(long principal, long paid, long emi, int tenure, double monthlyRate) {
+        int elapsed = emi > 0 ? (int) Math.min(tenure, paid / emi) : 0;
+        long balance = principal;
+        for (int month = 1; month <= elapsed; month++) {
+            balance += Math.round(balance * monthlyRate);
+            balance -= month == tenure ? balance : Math.min(emi, balance);
+        }
+        long remainder = paid - (long) elapsed * emi;
+        return new Start(elapsed, Math.max(0, balance - remainder));
+    }
+
+    private Outcome run(Start start, long emi, int tenure, double monthlyRate, SimulationScenario scenario) {
+        long[] prepaid = new long[MAX_MONTHS + 1];
+        boolean[] skipped = new boolean[MAX_MONTHS + 1];
+        int lastInstalment = tenure;
+        if (scenario.getPrepayments() != null) {
+            for (SimulationScenario.Prepayment prepayment : scenario.getPrepayments()) {
+                int month = checkMonth(prepayment.getMonth(), start);
+                if (prepayment.getAmount() == null || prepayment.getAmount() <= 0) {
+                    throw new IllegalArgumentException("Prepayment amount must be positive");
+                }
+                prepaid[month] = Money.add(prepaid[month], Money.ofRupees(prepayment.getAmount()));
+            }
+        }
+        if (scenario.getSkippedMonths() != null) {
+            for (Integer month : scenario.getSkippedMonths()) {
+                int skip = checkMonth(month == null ? 0 : month, start);
+                if (!skipped[skip]) {
+                    skipped[skip] = true;
+                    lastInstalment++;
+                }
+            }
+        }
+        int closeAt = scenario.getCloseAtMonth() == null ? Integer.MAX_VALUE : checkMonth(scenario.getCloseAtMonth(), start);
+
+        long balance = start.balance();
+        long totalInterest = 0;
+        long totalPaid = 0;
+        if (balance == 0) {
+            return new Outcome(start.month(), 0, 0);
+        }
+        for (int month = start.month() + 1; month <= MAX_MONTHS; month++) {
+            long interest = Math.round(balance * monthlyRate);
+            totalInterest += interest;
+            balance += interest;
+
+            if (month == closeAt) {
+                return new Outcome(month, totalInterest, totalPaid + balance);
+            }
+            if (!skipped[month]) {
+                long payment = month >= lastInstalment ? balance : Math.min(emi, balance);
+                balance -= payment;
+                totalPaid += payment;
+            }
+            long prepayment = Math.min(prepaid[month], balance);
+            balance -= prepayment;
+            totalPaid += prepayment;
+
+            if (balance == 0) {
+                return new Outcome(month, totalInterest, totalPaid);
+            }
+        }
+        throw new IllegalArgumentException("Scenario " + scenario.getName() + " does not close within " + MAX_MONTHS + " months");
+    }
+
+    private static int checkMonth(int month, Start start) {
+        if (month <= start.month() || month > MAX_MONTHS) {
+            String paid = start.month() == 0 ? "" : " (" + start.month() + " instalments are already paid)";
+            throw new IllegalArgumentException("Month must be between " + (start.month() + 1) + " and " + MAX_MONTHS + paid);
+        }
+        return month;
+    }
+}
@@ -1,13 +1,26 @@
 package com.example.MiniLoanAndEMICalculator_Backend.admin.controller;
 
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.dto.BulkLoanDecisionRequest;
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.dto.BulkLoanDecisionResponse;
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.dto.LoanPage;
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.dto.LockStats;
 import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.entity.Loan;
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.service.LoanLockManager;
 import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.service.LoanService;
+import com.example.MiniLoanAndEMICalculator_Backend.emiCalculator.dto.EmiRatesRequest;
+import com.example.MiniLoanAndEMICalculator_Backend.emiCalculator.service.EmiService;
+import com.example.MiniLoanAndEMICalculator_Backend.security.PasswordHasher;
+import com.example.MiniLoanAndEMICalculator_Backend.user.dto.UserSummary;
 import com.example.MiniLoanAndEMICalculator_Backend.user.entity.User;
 import com.example.MiniLoanAndEMICalculator_Backend.user.repository.UserRepository;
+import com.example.MiniLoanAndEMICalculator_Backend.user.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import jakarta.validation.Valid;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/admin")
@@ -19,31 +32,46 @@ public class AdminController {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private EmiService emiService;
+
+    @Autowired
+    private LoanLockManager loanLockManager;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private PasswordHasher passwordHasher;
+
     @GetMapping("/loans/pending")
-    public ResponseEntity<?> getPendingLoans() {
+    public ResponseEntity<?> getPendingLoans(@RequestParam(required = false) String cursor,
+                                             @RequestParam(required = false) Integer size) {
         try {
-            List<Loan> loans = loanService.getPendingLoans();
-            return ResponseEntity.ok(loans);
+            LoanPage page = loanService.getPendingLoans(cursor, size);
+            return ResponseEntity.ok(page);
         } catch (Exception e) {
             return ResponseEntity.badRequest().body("Error: " + e.getMessage());
         }
     }
 
     @GetMapping("/loans/approved")
-    public ResponseEntity<?> getApprovedLoans() {
+    public ResponseEntity<?> getApprovedLoans(@RequestParam(required = false) String cursor,
+                                              @RequestParam(required = false) Integer size) {
         try {
-            List<Loan> loans = loanService.getApprovedLoans();
-            return ResponseEntity.ok(loans);
+            LoanPage page = loanService.getApprovedLoans(cursor, size);
+            return ResponseEntity.ok(page);
         } catch (Exception e) {
             return ResponseEntity.badRequest().body("Error: " + e.getMessage());
         }
     }
 
     @GetMapping("/loans/rejected")
-    public ResponseEntity<?> getRejectedLoans() {
+    public ResponseEntity<?> getRejectedLoans(@RequestParam(required = false) String cursor,
+                                              @RequestParam(required = false) Integer size) {
         try {
-            List<Loan> loans = loanService.getRejectedLoans();
-            return ResponseEntity.ok(loans);
+            LoanPage page = loanService.getRejectedLoans(cursor, size);
+            return ResponseEntity.ok(page);
         } catch (Exception e) {
             return ResponseEntity.badRequest().body("Error: " + e.getMessage());
         }
@@ -69,13 +97,77 @@ public class AdminController {
         }
     }
 
+    @PostMapping("/loans/approve")
+    public ResponseEntity<?> approveLoans(@Valid @RequestBody BulkLoanDecisionRequest request) {
+        try {
+            BulkLoanDecisionResponse response = loanService.approveLoans(request.getLoanIds());
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("Error: " + e.getMessage());
+        }
+    }
+
+    @PostMapping("/loans/reject")
+    public ResponseEntity<?> rejectLoans(@Valid @RequestBody BulkLoanDecisionRequest request) {
+        try {
+            BulkLoanDecisionResponse response = loanService.rejectLoans(request.getLoanIds());
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("Error: " + e.getMessage());
+        }
+    }
+
     @GetMapping("/users")
     public ResponseEntity<?> getAllUsers() {
         try {
-            List<User> users = userRepository.findAll();
+            List<UserSummary> users = userRepository.findAllSummaries();
             return ResponseEntity.ok(users);
         } catch (Exception e) {
             return ResponseEntity.badRequest().body("Error: " + e.getMessage());
         }
     }
+
+    // Full profile, KYC numbers included, for reviewing one applicant
+    @GetMapping("/users/{userId}")
+    public ResponseEntity<?> getUser(@PathVariable Long userId) {
+        try {
+            User user = userRepository.findById(userId).orElseThrow(() -> new RuntimeException("User not found"));
+            return ResponseEntity.ok(user);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("Error: " + e.getMessage());
+        }
+    }
+
+    @GetMapping("/locks")
+    public ResponseEntity<?> getLockStats() {
+        Map<String, LockStats> stats = new LinkedHashMap<>();
+        stats.put("loans", loanLockManager.getLoanLockStats());
+        stats.put("users", loanLockManager.getUserLockStats());
+        return ResponseEntity.ok(stats);
+    }
+
+    @GetMapping("/user-cache")
+    public ResponseEntity<?> getUserCacheStats() {
+        return ResponseEntity.ok(userService.getUserCacheStats());
+    }
+
+    @GetMapping("/password-hashing")
+    public ResponseEntity<?> getPasswordHashingStats() {
+        return ResponseEntity.ok(passwordHasher.getStats());
+    }
+
+    @GetMapping("/emi/quote-cache")
+    public ResponseEntity<?> getQuoteCacheStats() {
+        return ResponseEntity.ok(emiService.getQuoteCacheStats());
+    }
+
+    @PutMapping("/emi/rates")
+    public ResponseEntity<?> updateEmiRates(@Valid @RequestBody EmiRatesRequest request) {
+        try {
+            emiService.updateRates(request.getMinRate(), request.getMaxRate());
+            return ResponseEntity.ok("EMI rates updated");
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("Error: " + e.getMessage());
+        }
+    }
 }
@@ -0,0 +1,31 @@
+package com.example.MiniLoanAndEMICalculator_Backend.config;
+
+import com.example.MiniLoanAndEMICalculator_Backend.security.PasswordHashingBusyException;
+import com.example.MiniLoanAndEMICalculator_Backend.user.controller.AuthController;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Error responses for the auth and user endpoints, the ones that hash
+ * passwords. They leave exceptions to this advice instead of catching them:
+ * a busy hashing pool answers 503 with Retry-After, any other failure the
+ * usual 400 "Error: ...".
+ */
+@RestControllerAdvice(basePackageClasses = AuthController.class)
+public class RestExceptionHandler {
+
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<String> passwordHashingBusy(PasswordHashingBusyException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body("Error: " + e.getMessage());
+    }
+
+    @ExceptionHandler(RuntimeException.class)
+    public ResponseEntity<String> badRequest(RuntimeException e) {
+        return ResponseEntity.badRequest().body("Error: " + e.getMessage());
+    }
+}
@@ -2,6 +2,7 @@ package com.example.MiniLoanAndEMICalculator_Backend.config;
 
 import com.example.MiniLoanAndEMICalculator_Backend.security.JwtAuthenticationEntryPoint;
 import com.example.MiniLoanAndEMICalculator_Backend.security.JwtRequestFilter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -28,9 +29,11 @@ public class SecurityConfig {
         this.jwtAuthenticationEntryPoint = jwtAuthenticationEntryPoint;
     }
 
+    // Raising the strength is safe: older hashes still verify and are
+    // re-hashed at the new cost on the user's next login
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${app.password-hashing.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
     @Bean
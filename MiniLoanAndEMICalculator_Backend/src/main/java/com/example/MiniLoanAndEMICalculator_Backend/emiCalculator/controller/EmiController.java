@@ -1,10 +1,19 @@
 package com.example.MiniLoanAndEMICalculator_Backend.emiCalculator.controller;
 
+import com.example.MiniLoanAndEMICalculator_Backend.emiCalculator.dto.EmiGridRequest;
 import com.example.MiniLoanAndEMICalculator_Backend.emiCalculator.dto.EmiRequest;
 import com.example.MiniLoanAndEMICalculator_Backend.emiCalculator.dto.EmiResponse;
+import com.example.MiniLoanAndEMICalculator_Backend.emiCalculator.dto.EmiSolveRequest;
 import com.example.MiniLoanAndEMICalculator_Backend.emiCalculator.service.EmiService;
+import com.example.MiniLoanAndEMICalculator_Backend.util.AmortizationSchedule;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
 
 @RestController
 @RequestMapping("/api/emi")
@@ -22,4 +31,54 @@ public class EmiController {
         EmiResponse response = emiService.calculateEmi(request);
         return ResponseEntity.ok(response);
     }
+
+    @PostMapping(value = "/calculate/batch",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> calculateEmiBatch(HttpServletRequest request) {
+        StreamingResponseBody body = out -> emiService.calculateEmiBatch(request.getInputStream(), out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    @PostMapping("/grid")
+    public ResponseEntity<?> calculateGrid(@RequestBody EmiGridRequest request) {
+        try {
+            return ResponseEntity.ok(emiService.calculateGrid(request));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("Error: " + e.getMessage());
+        }
+    }
+
+    @PostMapping("/solve/principal")
+    public ResponseEntity<?> solveMaxPrincipal(@Valid @RequestBody EmiSolveRequest request) {
+        try {
+            return ResponseEntity.ok(emiService.solveMaxPrincipal(request.getEmi(), request.getMonths()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("Error: " + e.getMessage());
+        }
+    }
+
+    @PostMapping("/solve/tenure")
+    public ResponseEntity<?> solveMinTenure(@Valid @RequestBody EmiSolveRequest request) {
+        try {
+            return ResponseEntity.ok(emiService.solveMinTenure(request.getEmi(), request.getAmount()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("Error: " + e.getMessage());
+        }
+    }
+
+    @PostMapping(value = "/schedule", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> getSchedule(@RequestBody EmiRequest request) {
+        try {
+            AmortizationSchedule schedule = emiService.generateSchedule(request);
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_NDJSON)
+                    .body(schedule::writeNdjson);
+        } catch (IllegalArgumentException e) {
+            byte[] message = ("Error: " + e.getMessage()).getBytes(StandardCharsets.UTF_8);
+            return ResponseEntity.badRequest().contentType(MediaType.TEXT_PLAIN).body(out -> out.write(message));
+        }
+    }
 }
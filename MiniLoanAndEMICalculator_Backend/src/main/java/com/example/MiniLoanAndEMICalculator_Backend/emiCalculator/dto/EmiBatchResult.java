@@ -0,0 +1,56 @@
+package com.example.MiniLoanAndEMICalculator_Backend.emiCalculator.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * One line of a batch quote response. Exactly one of result / error is set,
+ * so a bad row is reported without failing the rest of the batch.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class EmiBatchResult {
+
+    private long index;
+    private EmiResponse result;
+    private String error;
+
+    public EmiBatchResult() {
+    }
+
+    public EmiBatchResult(long index, EmiResponse result, String error) {
+        this.index = index;
+        this.result = result;
+        this.error = error;
+    }
+
+    public static EmiBatchResult ok(long index, EmiResponse result) {
+        return new EmiBatchResult(index, result, null);
+    }
+
+    public static EmiBatchResult failed(long index, String error) {
+        return new EmiBatchResult(index, null, error);
+    }
+
+    public long getIndex() {
+        return index;
+    }
+
+    public void setIndex(long index) {
+        this.index = index;
+    }
+
+    public EmiResponse getResult() {
+        return result;
+    }
+
+    public void setResult(EmiResponse result) {
+        this.result = result;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
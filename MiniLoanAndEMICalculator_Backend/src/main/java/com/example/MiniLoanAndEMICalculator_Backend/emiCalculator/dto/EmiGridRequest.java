@@ -0,0 +1,31 @@
+package com.example.MiniLoanAndEMICalculator_Backend.emiCalculator.dto;
+
+public class EmiGridRequest {
+
+    private double[] amounts;   // loan amounts (matrix rows)
+    private int[] months;       // tenures in months (matrix columns)
+
+    public EmiGridRequest() {
+    }
+
+    public EmiGridRequest(double[] amounts, int[] months) {
+        this.amounts = amounts;
+        this.months = months;
+    }
+
+    public double[] getAmounts() {
+        return amounts;
+    }
+
+    public void setAmounts(double[] amounts) {
+        this.amounts = amounts;
+    }
+
+    public int[] getMonths() {
+        return months;
+    }
+
+    public void setMonths(int[] months) {
+        this.months = months;
+    }
+}
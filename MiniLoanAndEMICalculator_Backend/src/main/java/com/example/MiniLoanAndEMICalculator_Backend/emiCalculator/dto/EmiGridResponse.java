@@ -0,0 +1,77 @@
+package com.example.MiniLoanAndEMICalculator_Backend.emiCalculator.dto;
+
+/**
+ * Amount x tenure quote matrix in columnar form. Each value array is
+ * row-major with one row per amount: the cell for amounts[i] and months[j]
+ * is at index i * months.length + j.
+ */
+public class EmiGridResponse {
+
+    private double[] amounts;
+    private int[] months;
+    private double[] monthlyRates;     // in %
+    private double[] monthlyEmi;
+    private double[] totalInterest;
+    private double[] totalPayment;
+
+    public EmiGridResponse() {
+    }
+
+    public EmiGridResponse(double[] amounts, int[] months, double[] monthlyRates,
+                           double[] monthlyEmi, double[] totalInterest, double[] totalPayment) {
+        this.amounts = amounts;
+        this.months = months;
+        this.monthlyRates = monthlyRates;
+        this.monthlyEmi = monthlyEmi;
+        this.totalInterest = totalInterest;
+        this.totalPayment = totalPayment;
+    }
+
+    public double[] getAmounts() {
+        return amounts;
+    }
+
+    public int[] getMonths() {
+        return months;
+    }
+
+    public double[] getMonthlyRates() {
+        return monthlyRates;
+    }
+
+    public double[] getMonthlyEmi() {
+        return monthlyEmi;
+    }
+
+    public double[] getTotalInterest() {
+        return totalInterest;
+    }
+
+    public double[] getTotalPayment() {
+        return totalPayment;
+    }
+
+    public void setAmounts(double[] amounts) {
+        this.amounts = amounts;
+    }
+
+    public void setMonths(int[] months) {
+        this.months = months;
+    }
+
+    public void setMonthlyRates(double[] monthlyRates) {
+        this.monthlyRates = monthlyRates;
+    }
+
+    public void setMonthlyEmi(double[] monthlyEmi) {
+        this.monthlyEmi = monthlyEmi;
+    }
+
+    public void setTotalInterest(double[] totalInterest) {
+        this.totalInterest = totalInterest;
+    }
+
+    public void setTotalPayment(double[] totalPayment) {
+        this.totalPayment = totalPayment;
+    }
+}
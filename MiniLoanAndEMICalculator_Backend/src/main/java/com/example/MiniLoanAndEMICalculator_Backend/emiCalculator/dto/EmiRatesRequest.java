@@ -0,0 +1,40 @@
+package com.example.MiniLoanAndEMICalculator_Backend.emiCalculator.dto;
+
+import jakarta.validation.constraints.*;
+
+public class EmiRatesRequest {
+
+    @NotNull
+    @Positive
+    @DecimalMax("100.0")
+    private Double minRate;   // in %
+
+    @NotNull
+    @Positive
+    @DecimalMax("100.0")      // EmiService.MAX_RATE
+    private Double maxRate;   // in %
+
+    public EmiRatesRequest() {
+    }
+
+    public EmiRatesRequest(Double minRate, Double maxRate) {
+        this.minRate = minRate;
+        this.maxRate = maxRate;
+    }
+
+    public Double getMinRate() {
+        return minRate;
+    }
+
+    public void setMinRate(Double minRate) {
+        this.minRate = minRate;
+    }
+
+    public Double getMaxRate() {
+        return maxRate;
+    }
+
+    public void setMaxRate(Double maxRate) {
+        this.maxRate = maxRate;
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.MiniLoanAndEMICalculator_Backend.emiCalculator.dto;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Positive;
+
+public class EmiSolveRequest {
+
+    @Positive
+    @DecimalMax("1000000000000")
+    private double emi;      // target monthly EMI
+
+    @Min(0)
+    @Max(600)
+    private int months;      // fixed tenure, when solving for principal
+
+    @DecimalMin("0")
+    @DecimalMax("1000000000000")
+    private double amount;   // fixed loan amount, when solving for tenure
+
+    public EmiSolveRequest() {
+    }
+
+    public EmiSolveRequest(double emi, int months, double amount) {
+        this.emi = emi;
+        this.months = months;
+        this.amount = amount;
+    }
+
+    public double getEmi() {
+        return emi;
+    }
+
+    public void setEmi(double emi) {
+        this.emi = emi;
+    }
+
+    public int getMonths() {
+        return months;
+    }
+
+    public void setMonths(int months) {
+        this.months = months;
+    }
+
+    public double getAmount() {
+        return amount;
+    }
+
+    public void setAmount(double amount) {
+        this.amount = amount;
+    }
+}
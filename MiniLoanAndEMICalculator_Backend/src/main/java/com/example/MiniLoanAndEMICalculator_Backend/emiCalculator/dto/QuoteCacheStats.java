@@ -0,0 +1,47 @@
+package com.example.MiniLoanAndEMICalculator_Backend.emiCalculator.dto;
+
+public class QuoteCacheStats {
+
+    private long hits;
+    private long misses;
+    private long evictions;
+    private double hitRate;
+    private long size;
+    private long maxSize;
+
+    public QuoteCacheStats() {
+    }
+
+    public QuoteCacheStats(long hits, long misses, long evictions, double hitRate, long size, long maxSize) {
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.hitRate = hitRate;
+        this.size = size;
+        this.maxSize = maxSize;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    public double getHitRate() {
+        return hitRate;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public long getMaxSize() {
+        return maxSize;
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.MiniLoanAndEMICalculator_Backend.emiCalculator.service;
+
+/**
+ * Bulk quote arithmetic over one matrix row (a fixed amount). The per-cell
+ * rate and annuity factor are resolved beforehand, so the loop body is
+ * straight-line arithmetic over primitive arrays with no calls or branches,
+ * which C2 can unroll and vectorize.
+ *
+ * Given the paise-rounded amount, results match EmiService.calculateEmi cell
+ * for cell: the same operations in the same order, including the half-up
+ * rounding to two decimals.
+ */
+final class EmiGridKernel {
+
+    private EmiGridKernel() {
+    }
+
+    /**
+     * @param amount        principal for this row
+     * @param annuityFactor EMI per unit principal, one per column
+     * @param months        tenure as double, one per column
+     * @param offset        index of this row's first cell in the output arrays
+     */
+    static void quoteRow(double amount, double[] annuityFactor, double[] months, int columns,
+                         double[] emiOut, double[] totalInterestOut, double[] totalPaymentOut, int offset) {
+        for (int j = 0; j < columns; j++) {
+            double emi = amount * annuityFactor[j];
+            double totalPayment = emi * months[j];
+            double totalInterest = totalPayment - amount;
+
+            emiOut[offset + j] = Math.round(emi * 100.0) / 100.0;
+            totalPaymentOut[offset + j] = Math.round(totalPayment * 100.0) / 100.0;
+            totalInterestOut[offset + j] = Math.round(totalInterest * 100.0) / 100.0;
+        }
+    }
+}
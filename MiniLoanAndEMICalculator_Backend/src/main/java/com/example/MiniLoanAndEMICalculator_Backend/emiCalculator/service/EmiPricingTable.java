@@ -0,0 +1,95 @@
+package com.example.MiniLoanAndEMICalculator_Backend.emiCalculator.service;
+
+import com.example.MiniLoanAndEMICalculator_Backend.util.EmiCalculator;
+
+/**
+ * Precomputed quote table for the clamped calculator domain: every whole
+ * amount between the minimum and maximum amount, for every tenure between
+ * the minimum and maximum months.
+ *
+ * For each cell it keeps the annuity factor r(1+r)^n / ((1+r)^n - 1), so the
+ * EMI is a single multiply by the amount, and the rate in hundredths of a
+ * percent as already rounded for the response. Amounts outside the range
+ * share the edge cells because the rate is clamped there too.
+ *
+ * 49,001 amounts x 24 tenures take roughly 12 MB and are built once at startup.
+ * Rates are kept as short hundredths, so a curve must stay within 0 to
+ * {@link #MAX_RATE}%; the constructor rejects anything outside that.
+ */
+public final class EmiPricingTable {
+
+    /** Highest rate (in %) a cell can hold. */
+    public static final double MAX_RATE = Short.MAX_VALUE / 100.0;
+
+    @FunctionalInterface
+    public interface RateCurve {
+        double rate(double amount, int months); // in %
+    }
+
+    private final long minAmount;
+    private final long maxAmount;
+    private final int minMonths;
+    private final int maxMonths;
+    private final int tenures;
+
+    private final double[] annuityFactors;
+    private final short[] rateHundredths;
+
+    public EmiPricingTable(long minAmount, long maxAmount, int minMonths, int maxMonths, RateCurve curve) {
+        this.minAmount = minAmount;
+        this.maxAmount = maxAmount;
+        this.minMonths = minMonths;
+        this.maxMonths = maxMonths;
+        this.tenures = maxMonths - minMonths + 1;
+
+        int amounts = Math.toIntExact(maxAmount - minAmount + 1);
+        this.annuityFactors = new double[amounts * tenures];
+        this.rateHundredths = new short[amounts * tenures];
+
+        for (int a = 0; a < amounts; a++) {
+            double amount = minAmount + a;
+            for (int t = 0; t < tenures; t++) {
+                int months = minMonths + t;
+                double rate = curve.rate(amount, months);
+                if (!(rate >= 0 && rate <= MAX_RATE)) {
+                    throw new IllegalArgumentException("Rate " + rate + "% is outside the pricing table range 0-" + MAX_RATE + "%.");
+                }
+                int cell = a * tenures + t;
+                annuityFactors[cell] = EmiCalculator.annuityFactor(rate / 100.0, months);
+                rateHundredths[cell] = (short) Math.round(rate * 100);
+            }
+        }
+    }
+
+    /**
+     * Whether a quote for this amount and tenure can be served from the table.
+     * Tenure must be inside the grid (it drives the exponent), and the clamped
+     * amount must be a whole number.
+     */
+    public boolean covers(double amount, int months) {
+        if (months < minMonths || months > maxMonths || amount <= 0) {
+            return false;
+        }
+        double clamped = Math.min(Math.max(amount, minAmount), maxAmount);
+        return clamped == Math.rint(clamped);
+    }
+
+    /**
+     * Cell index for a covered (amount, months) pair.
+     */
+    public int cell(double amount, int months) {
+        long clamped = (long) Math.min(Math.max(amount, minAmount), maxAmount);
+        return (int) (clamped - minAmount) * tenures + (months - minMonths);
+    }
+
+    public double annuityFactor(int cell) {
+        return annuityFactors[cell];
+    }
+
+    /**
+     * Rate in %, rounded to two decimals.
+     */
+    public double roundedRate(int cell) {
+        return rateHundredths[cell] / 100.0;
+    }
+}
@@ -1,9 +1,35 @@
 package com.example.MiniLoanAndEMICalculator_Backend.emiCalculator.service;
 
+import com.example.MiniLoanAndEMICalculator_Backend.emiCalculator.dto.EmiBatchResult;
+import com.example.MiniLoanAndEMICalculator_Backend.emiCalculator.dto.EmiGridRequest;
+import com.example.MiniLoanAndEMICalculator_Backend.emiCalculator.dto.EmiGridResponse;
 import com.example.MiniLoanAndEMICalculator_Backend.emiCalculator.dto.EmiRequest;
 import com.example.MiniLoanAndEMICalculator_Backend.emiCalculator.dto.EmiResponse;
+import com.example.MiniLoanAndEMICalculator_Backend.emiCalculator.dto.QuoteCacheStats;
+import com.example.MiniLoanAndEMICalculator_Backend.util.AmortizationSchedule;
+import com.example.MiniLoanAndEMICalculator_Backend.util.EmiCalculator;
+import com.example.MiniLoanAndEMICalculator_Backend.util.Money;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
 @Service
 public class EmiService {
 
@@ -11,20 +37,111 @@ public class EmiService {
     private static final double MAX_AMOUNT = 50000.0;
     private static final int MIN_MONTHS = 1;
     private static final int MAX_MONTHS = 24;
-    private static final double MAX_RATE = 10.0; // %
-    private static final double MIN_RATE = 3.0;  // %
+    private static final int MAX_SCHEDULE_MONTHS = 600;  // longest tenure the loan side simulates
+    private static final double DEFAULT_MAX_RATE = 10.0; // %
+    private static final double DEFAULT_MIN_RATE = 3.0;  // %
+    public static final double MAX_RATE = 100.0;         // %, well inside EmiPricingTable.MAX_RATE
+    private static final long DEFAULT_QUOTE_CACHE_SIZE = 10_000;
+    private static final int BATCH_FLUSH_EVERY = 64;
+    private static final int MAX_GRID_CELLS = 100_000;
+    private static final int MAX_SOLVER_ITERATIONS = 50;
+    private static final int MAX_ROUNDING_STEPS = 1000;  // paise stepped past the solved principal
+    private static final double SOLVER_TOLERANCE = 1e-9;
+
+    /**
+     * Rate bounds, the pricing table built from them, and the quotes cached
+     * against them. Swapped as a unit when the rates change, so a quote can
+     * never mix old and new pricing and stale quotes are dropped with it.
+     */
+    private record Pricing(double minRate, double maxRate, EmiPricingTable table,
+                           Cache<QuoteKey, EmiResponse> quotes) {
+    }
+
+    private record QuoteKey(long amountPaise, int months) {
+    }
+
+    private final ObjectReader batchReader;
+    private final ObjectWriter batchWriter;
+    private final ObjectMapper objectMapper;
+    private final long quoteCacheSize;
+    private final StatsCounter quoteCacheStats = new ConcurrentStatsCounter();
 
+    private volatile Pricing pricing;
+
+    public EmiService(ObjectMapper objectMapper) {
+        this(objectMapper, DEFAULT_QUOTE_CACHE_SIZE);
+    }
+
+    @Autowired
+    public EmiService(ObjectMapper objectMapper,
+                      @Value("${app.emi.quote-cache.max-size:10000}") long quoteCacheSize) {
+        this.objectMapper = objectMapper;
+        this.quoteCacheSize = quoteCacheSize;
+        this.pricing = buildPricing(DEFAULT_MIN_RATE, DEFAULT_MAX_RATE);
+        this.batchReader = objectMapper.readerFor(EmiRequest.class);
+        this.batchWriter = objectMapper.writerFor(EmiBatchResult.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Quotes are served from a bounded cache keyed on (amount in paise,
+     * months); the amount is rounded to paise before pricing, so inputs that
+     * differ only below a paisa share one quote. The returned EmiResponse may
+     * be shared between callers and must be treated as read-only.
+     */
     public EmiResponse calculateEmi(EmiRequest request) {
-        double amount = request.getAmount();
         int months = request.getMonths();
 
         // Guard
+        if (request.getAmount() <= 0 || months <= 0) {
+            throw new IllegalArgumentException("Amount and months must be positive.");
+        }
+        long amountPaise = Money.ofRupees(request.getAmount());
+        if (amountPaise <= 0) {
+            throw new IllegalArgumentException("Amount and months must be positive.");
+        }
+
+        Pricing current = pricing;
+        return current.quotes().get(new QuoteKey(amountPaise, months),
+                key -> priceQuote(current, Money.toRupees(amountPaise), months));
+    }
+
+    private EmiResponse priceQuote(Pricing current, double amount, int months) {
+        EmiPricingTable pricingTable = current.table();
+        if (!pricingTable.covers(amount, months)) {
+            return calculateEmiByFormula(current, amount, months);
+        }
+
+        // Table lookup: EMI = P * annuity factor
+        int cell = pricingTable.cell(amount, months);
+        double emi = amount * pricingTable.annuityFactor(cell);
+        double totalPayment = emi * months;
+        double totalInterest = totalPayment - amount;
+
+        return new EmiResponse(
+                amount,
+                months,
+                pricingTable.roundedRate(cell),
+                round(emi, 2),
+                round(totalInterest, 2),
+                round(totalPayment, 2)
+        );
+    }
+
+    /**
+     * Prices a quote straight from the formula. Used for inputs the pricing
+     * table does not cover and as the reference the table is verified against.
+     */
+    public EmiResponse calculateEmiByFormula(double amount, int months) {
         if (amount <= 0 || months <= 0) {
             throw new IllegalArgumentException("Amount and months must be positive.");
         }
+        return calculateEmiByFormula(pricing, amount, months);
+    }
 
+    private EmiResponse calculateEmiByFormula(Pricing current, double amount, int months) {
         // 1️⃣ Calculate annual interest rate dynamically
-        double monthlyRates = calculateRate(amount, months); // in %
+        double monthlyRates = rate(current, amount, months); // in %
 
         // 2️⃣ Convert to monthly rate (decimal)
         double monthlyRate = monthlyRates / 100.0;
@@ -39,9 +156,7 @@ public class EmiService {
             totalPayment = amount;
             totalInterest = 0;
         } else {
-            double numerator = monthlyRate * Math.pow(1 + monthlyRate, months);
-            double denominator = Math.pow(1 + monthlyRate, months) - 1;
-            emi = amount * (numerator / denominator);
+            emi = amount * EmiCalculator.annuityFactor(monthlyRate, months);
             totalPayment = emi * months;
             totalInterest = totalPayment - amount;
         }
@@ -63,11 +178,357 @@ public class EmiService {
         );
     }
 
+    /**
+     * Prices the full amount x tenure matrix in one call. Per-cell rates and
+     * annuity factors come from the pricing table (or the formula for cells it
+     * does not cover); the EMI and totals for each row are then computed by
+     * {@link EmiGridKernel} over primitive arrays. Amounts are rounded to
+     * paise first, as in {@link #calculateEmi}.
+     */
+    public EmiGridResponse calculateGrid(EmiGridRequest request) {
+        double[] amounts = request.getAmounts();
+        int[] months = request.getMonths();
+
+        if (amounts == null || months == null || amounts.length == 0 || months.length == 0) {
+            throw new IllegalArgumentException("Amounts and months are required.");
+        }
+        if ((long) amounts.length * months.length > MAX_GRID_CELLS) {
+            throw new IllegalArgumentException("Grid is limited to " + MAX_GRID_CELLS + " cells.");
+        }
+        double[] pricedAmounts = new double[amounts.length];
+        for (int i = 0; i < amounts.length; i++) {
+            if (amounts[i] <= 0) throw new IllegalArgumentException("Amount and months must be positive.");
+            long amountPaise = Money.ofRupees(amounts[i]);
+            if (amountPaise <= 0) throw new IllegalArgumentException("Amount and months must be positive.");
+            pricedAmounts[i] = Money.toRupees(amountPaise);
+        }
+        for (int m : months) {
+            if (m <= 0) throw new IllegalArgumentException("Amount and months must be positive.");
+        }
+
+        int rows = amounts.length;
+        int columns = months.length;
+        double[] rates = new double[rows * columns];
+        double[] emi = new double[rows * columns];
+        double[] totalInterest = new double[rows * columns];
+        double[] totalPayment = new double[rows * columns];
+
+        double[] monthsColumn = new double[columns];
+        for (int j = 0; j < columns; j++) {
+            monthsColumn[j] = months[j];
+        }
+        double[] factorRow = new double[columns];
+
+        Pricing current = pricing;
+        EmiPricingTable pricingTable = current.table();
+        for (int i = 0; i < rows; i++) {
+            double amount = pricedAmounts[i];
+            int offset = i * columns;
+
+            for (int j = 0; j < columns; j++) {
+                if (pricingTable.covers(amount, months[j])) {
+                    int cell = pricingTable.cell(amount, months[j]);
+                    factorRow[j] = pricingTable.annuityFactor(cell);
+                    rates[offset + j] = pricingTable.roundedRate(cell);
+                } else {
+                    double rate = rate(current, amount, months[j]);
+                    factorRow[j] = EmiCalculator.annuityFactor(rate / 100.0, months[j]);
+                    rates[offset + j] = round(rate, 2);
+                }
+            }
+
+            EmiGridKernel.quoteRow(amount, factorRow, monthsColumn, columns,
+                    emi, totalInterest, totalPayment, offset);
+        }
+
+        return new EmiGridResponse(pricedAmounts, months, rates, emi, totalInterest, totalPayment);
+    }
+
+    /**
+     * Largest principal whose EMI over the given tenure does not exceed the
+     * target EMI, returned as the quote for that principal.
+     *
+     * The rate falls as the amount grows, so EMI(P) = P * factor(rate(P), n)
+     * is solved as follows: below the minimum and above the maximum amount
+     * the rate is flat and the inverse formula is exact (closed form); in
+     * between the rate is linear in P and a bracketed Newton iteration
+     * converges in a handful of steps.
+     *
+     * The solved principal must fit in {@link Money#MAX_RUPEES}, where paise
+     * are still exact, so the paisa-by-paisa rounding steps always move.
+     */
+    public EmiResponse solveMaxPrincipal(double targetEmi, int months) {
+        if (targetEmi <= 0 || months <= 0) {
+            throw new IllegalArgumentException("EMI and months must be positive.");
+        }
+        Pricing current = pricing;
+        double solved = maxPrincipal(current, targetEmi, months);
+        if (!(solved < Money.MAX_RUPEES)) {
+            throw new IllegalArgumentException("EMI is too large for any loan amount.");
+        }
+        long principalPaise = (long) Math.floor(solved * 100.0);
+        if (principalPaise <= 0) {
+            throw new IllegalArgumentException("EMI is too small for any loan amount.");
+        }
+        EmiResponse quote = priceQuote(current, Money.toRupees(principalPaise), months);
+        for (int step = 0; quote.getMonthlyEmi() > targetEmi; step++) {
+            if (principalPaise <= 1 || step == MAX_ROUNDING_STEPS) {
+                throw new IllegalArgumentException("EMI is too small for any loan amount.");
+            }
+            quote = priceQuote(current, Money.toRupees(--principalPaise), months);
+        }
+        // The quoted EMI is rounded, so a few more paise may still fit under the target
+        for (int step = 0; step < MAX_ROUNDING_STEPS; step++) {
+            EmiResponse next = priceQuote(current, Money.toRupees(++principalPaise), months);
+            if (next.getMonthlyEmi() > targetEmi) {
+                break;
+            }
+            quote = next;
+        }
+        return quote;
+    }
+
+    /**
+     * Shortest tenure whose EMI for the given amount does not exceed the
+     * target EMI, returned as the quote for that tenure.
+     *
+     * Newton's method runs on the continuous tenure (the rate is linear in
+     * months up to the maximum tenure and flat beyond it, where the inverse
+     * formula is closed form); the result is then rounded up to whole months
+     * and checked against the rounded EMI actually quoted.
+     */
+    public EmiResponse solveMinTenure(double targetEmi, double amount) {
+        if (targetEmi <= 0 || amount <= 0) {
+            throw new IllegalArgumentException("EMI and amount must be positive.");
+        }
+        Pricing current = pricing;
+
+        double longRate = rate(current, amount, MAX_MONTHS) / 100.0;
+        double tenure = EmiCalculator.tenureForEmi(amount, targetEmi, longRate);
+        if (Double.isInfinite(tenure)) {
+            throw new IllegalArgumentException("EMI does not cover the monthly interest.");
+        }
+        if (tenure < MAX_MONTHS) {
+            tenure = minTenureWithinRange(current, targetEmi, amount);
+        }
+        if (tenure > Integer.MAX_VALUE - 1) {
+            throw new IllegalArgumentException("EMI is too small to repay this amount.");
+        }
+
+        int months = Math.max(MIN_MONTHS, (int) Math.ceil(tenure - SOLVER_TOLERANCE));
+        while (months > MIN_MONTHS && priceQuote(current, amount, months - 1).getMonthlyEmi() <= targetEmi) {
+            months--;
+        }
+        EmiResponse quote = priceQuote(current, amount, months);
+        while (quote.getMonthlyEmi() > targetEmi) {
+            quote = priceQuote(current, amount, ++months);
+        }
+        return quote;
+    }
+
+    private double maxPrincipal(Pricing current, double targetEmi, int months) {
+        double lowRate = rate(current, MIN_AMOUNT, months) / 100.0;
+        double lowEmi = MIN_AMOUNT * EmiCalculator.annuityFactor(lowRate, months);
+        if (targetEmi <= lowEmi) {
+            return EmiCalculator.principalForEmi(targetEmi, lowRate, months);
+        }
+        double highRate = rate(current, MAX_AMOUNT, months) / 100.0;
+        double highEmi = MAX_AMOUNT * EmiCalculator.annuityFactor(highRate, months);
+        if (targetEmi >= highEmi) {
+            return EmiCalculator.principalForEmi(targetEmi, highRate, months);
+        }
+
+        // d(monthly rate)/dP inside the amount range
+        double rateSlope = -(current.maxRate() - current.minRate()) / (MAX_AMOUNT - MIN_AMOUNT) / 2.0 / 100.0;
+
+        double lo = MIN_AMOUNT;
+        double hi = MAX_AMOUNT;
+        double p = lo + (hi - lo) * (targetEmi - lowEmi) / (highEmi - lowEmi);
+        for (int i = 0; i < MAX_SOLVER_ITERATIONS; i++) {
+            double r = rate(current, p, months) / 100.0;
+            double factor = EmiCalculator.annuityFactor(r, months);
+            double error = p * factor - targetEmi;
+            if (Math.abs(error) <= SOLVER_TOLERANCE * targetEmi) {
+                break;
+            }
+            if (error > 0) hi = p; else lo = p;
+
+            double slope = factor + p * EmiCalculator.annuityFactorRateDerivative(r, months) * rateSlope;
+            double next = p - error / slope;
+            if (!(next > lo && next < hi)) {
+                next = (lo + hi) / 2.0; // keep Newton inside the bracket
+            }
+            p = next;
+        }
+        return p;
+    }
+
+    /**
+     * Solves amount * factor(rate(n), n) = targetEmi for a real n in
+     * [MIN_MONTHS, MAX_MONTHS], where the rate is linear in n.
+     */
+    private double minTenureWithinRange(Pricing current, double targetEmi, double amount) {
+        if (amount * monthlyFactor(current, amount, MIN_MONTHS) <= targetEmi) {
+            return MIN_MONTHS;
+        }
+
+        // d(monthly rate)/dn inside the tenure range
+        double rateSlope = -(current.maxRate() - current.minRate()) / (MAX_MONTHS - MIN_MONTHS) / 2.0 / 100.0;
+
+        double lo = MIN_MONTHS;
+        double hi = MAX_MONTHS;
+        double n = (lo + hi) / 2.0;
+        for (int i = 0; i < MAX_SOLVER_ITERATIONS; i++) {
+            double r = continuousRate(current, amount, n);
+            double growthLog = Math.log1p(r);
+            double discount = Math.exp(-n * growthLog);
+            double oneMinus = 1 - discount;
+            double factor = r / oneMinus;
+            double error = amount * factor - targetEmi;
+            if (Math.abs(error) <= SOLVER_TOLERANCE * targetEmi) {
+                break;
+            }
+            if (error > 0) lo = n; else hi = n; // EMI falls as tenure grows
+
+            double dFactorDn = -r * growthLog * discount / (oneMinus * oneMinus);
+            double dFactorDr = (oneMinus - r * n * discount / (1 + r)) / (oneMinus * oneMinus);
+            double slope = amount * (dFactorDn + dFactorDr * rateSlope);
+            double next = n - error / slope;
+            if (!(next > lo && next < hi)) {
+                next = (lo + hi) / 2.0; // keep Newton inside the bracket
+            }
+            n = next;
+        }
+        return n;
+    }
+
+    private static double monthlyFactor(Pricing current, double amount, int months) {
+        return EmiCalculator.annuityFactor(rate(current, amount, months) / 100.0, months);
+    }
+
+    /**
+     * Monthly rate (decimal) for a real tenure inside [MIN_MONTHS, MAX_MONTHS],
+     * interpolating the duration effect of {@link #calculateRate}.
+     */
+    private static double continuousRate(Pricing current, double amount, double months) {
+        double amt = Math.min(Math.max(amount, MIN_AMOUNT), MAX_AMOUNT);
+        double amountRatio = (amt - MIN_AMOUNT) / (MAX_AMOUNT - MIN_AMOUNT);
+        double durationRatio = (months - MIN_MONTHS) / (MAX_MONTHS - MIN_MONTHS);
+        double spread = current.maxRate() - current.minRate();
+        double amountRate = current.maxRate() - spread * amountRatio;
+        double durationRate = current.maxRate() - spread * durationRatio;
+        return (amountRate + durationRate) / 2.0 / 100.0;
+    }
+
+    /**
+     * Amortization schedule for a quote, paying the rounded EMI from the quote
+     * each month. Rows are generated lazily by the returned schedule, so the
+     * tenure is capped at {@value #MAX_SCHEDULE_MONTHS} months.
+     */
+    public AmortizationSchedule generateSchedule(EmiRequest request) {
+        if (request.getMonths() > MAX_SCHEDULE_MONTHS) {
+            throw new IllegalArgumentException("Schedules are limited to " + MAX_SCHEDULE_MONTHS + " months.");
+        }
+        EmiResponse quote = calculateEmi(request);
+        // Rate on the paise-rounded amount the quote was priced on
+        double monthlyRate = calculateRate(quote.getAmount(), quote.getMonths()) / 100.0;
+        return new AmortizationSchedule(quote.getAmount(), monthlyRate, quote.getMonthlyEmi(), quote.getMonths());
+    }
+
+    /**
+     * Streams quotes for a JSON array or NDJSON stream of EmiRequest items.
+     * Items are read, priced and written one at a time, so memory stays flat
+     * regardless of batch size. Each output line carries the item index and
+     * either a result or an error; a bad row does not stop the batch unless
+     * the input itself is no longer parseable.
+     */
+    public void calculateEmiBatch(InputStream in, OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+
+        try (MappingIterator<EmiRequest> items = batchReader.readValues(in)) {
+            long index = 0;
+            while (true) {
+                EmiBatchResult line;
+                try {
+                    if (!items.hasNextValue()) {
+                        break;
+                    }
+                    line = EmiBatchResult.ok(index, calculateEmi(items.nextValue()));
+                } catch (JsonParseException e) {
+                    // Malformed input: there is no next item to resync to
+                    writeBatchLine(generator, EmiBatchResult.failed(index, e.getOriginalMessage()));
+                    break;
+                } catch (JsonMappingException e) {
+                    line = EmiBatchResult.failed(index, e.getOriginalMessage());
+                } catch (IllegalArgumentException e) {
+                    line = EmiBatchResult.failed(index, e.getMessage());
+                }
+                writeBatchLine(generator, line);
+                if (++index % BATCH_FLUSH_EVERY == 0) {
+                    generator.flush();
+                }
+            }
+        } finally {
+            generator.close();
+        }
+    }
+
+    private void writeBatchLine(JsonGenerator generator, EmiBatchResult line) throws IOException {
+        batchWriter.writeValue(generator, line);
+        generator.writeRaw('\n');
+    }
+
+    /**
+     * Replaces the rate bounds and rebuilds the pricing table. Every cached
+     * quote was priced with the old bounds, so the quote cache starts empty.
+     */
+    public synchronized void updateRates(double minRate, double maxRate) {
+        if (minRate <= 0 || maxRate < minRate) {
+            throw new IllegalArgumentException("Rates must be positive and minRate <= maxRate.");
+        }
+        if (maxRate > MAX_RATE) {
+            throw new IllegalArgumentException("Rates must not exceed " + MAX_RATE + "%.");
+        }
+        pricing = buildPricing(minRate, maxRate);
+    }
+
+    public QuoteCacheStats getQuoteCacheStats() {
+        CacheStats stats = quoteCacheStats.snapshot();
+        return new QuoteCacheStats(
+                stats.hitCount(),
+                stats.missCount(),
+                stats.evictionCount(),
+                stats.hitRate(),
+                pricing.quotes().estimatedSize(),
+                quoteCacheSize
+        );
+    }
+
+    private Pricing buildPricing(double minRate, double maxRate) {
+        EmiPricingTable table = new EmiPricingTable((long) MIN_AMOUNT, (long) MAX_AMOUNT,
+                MIN_MONTHS, MAX_MONTHS, (amount, months) -> rate(minRate, maxRate, amount, months));
+        Cache<QuoteKey, EmiResponse> quotes = Caffeine.newBuilder()
+                .maximumSize(quoteCacheSize)
+                .recordStats(() -> quoteCacheStats)
+                .build();
+        return new Pricing(minRate, maxRate, table, quotes);
+    }
+
     /**
      * Dynamic rate calculation based on amount and duration.
-     * Uses smooth scaling between MIN_RATE and MAX_RATE.
+     * Uses smooth scaling between the minimum and maximum rate.
      */
     protected double calculateRate(double amount, int months) {
+        return rate(pricing, amount, months);
+    }
+
+    private static double rate(Pricing current, double amount, int months) {
+        return rate(current.minRate(), current.maxRate(), amount, months);
+    }
+
+    private static double rate(double minRate, double maxRate, double amount, int months) {
         // Clamp values to defined ranges
         double amt = Math.min(Math.max(amount, MIN_AMOUNT), MAX_AMOUNT);
         int m = Math.min(Math.max(months, MIN_MONTHS), MAX_MONTHS);
@@ -78,17 +539,17 @@ public class EmiService {
                 (m - MIN_MONTHS) / (double) (MAX_MONTHS - MIN_MONTHS); // 0 to 1
 
         // Amount effect: higher amount → lower rate
-        double amountRate = MAX_RATE - (MAX_RATE - MIN_RATE) * amountRatio;
+        double amountRate = maxRate - (maxRate - minRate) * amountRatio;
 
         // Duration effect: longer duration → lower rate
-        double durationRate = MAX_RATE - (MAX_RATE - MIN_RATE) * durationRatio;
+        double durationRate = maxRate - (maxRate - minRate) * durationRatio;
 
         // Final rate = average of both effects
         double rate = (amountRate + durationRate) / 2.0;
 
         // Bound rate
-        if (rate < MIN_RATE) rate = MIN_RATE;
-        if (rate > MAX_RATE) rate = MAX_RATE;
+        if (rate < minRate) rate = minRate;
+        if (rate > maxRate) rate = maxRate;
 
         return rate;
     }
@@ -0,0 +1,16 @@
+package com.example.MiniLoanAndEMICalculator_Backend.security;
+
+import com.example.MiniLoanAndEMICalculator_Backend.user.entity.User;
+
+/**
+ * The caller of the current request, as resolved once by JwtRequestFilter.
+ * Controllers take it as a handler argument (see
+ * AuthenticatedUserArgumentResolver) instead of re-reading the token and
+ * looking the user up by email.
+ */
+public record AuthenticatedUser(Long id, String email, String role) {
+
+    public static AuthenticatedUser of(User user) {
+        return new AuthenticatedUser(user.getId(), user.getEmail(), user.getRole());
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.MiniLoanAndEMICalculator_Backend.security;
 
+import com.example.MiniLoanAndEMICalculator_Backend.user.entity.User;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -39,6 +40,7 @@ public class JwtRequestFilter extends OncePerRequestFilter {
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
             token = authHeader.substring(7);
             try {
+                // Verifies the signature; JwtUtil caches the claims for the rest of the request
                 username = jwtUtil.extractUsername(token);
             } catch (Exception e) {
                 // invalid token → do nothing, request will continue unauthenticated
@@ -50,9 +52,11 @@ public class JwtRequestFilter extends OncePerRequestFilter {
             UserDetails userDetails = userDetailsService.loadUserByUsername(username);
 
             if (jwtUtil.validateToken(token, userDetails.getUsername())) {
+                // Controllers read the caller from this principal, so they never look the user up again
+                Object principal = userDetails instanceof User user ? AuthenticatedUser.of(user) : userDetails;
                 UsernamePasswordAuthenticationToken authToken =
                         new UsernamePasswordAuthenticationToken(
-                                userDetails,
+                                principal,
                                 null,
                                 userDetails.getAuthorities()
                         );
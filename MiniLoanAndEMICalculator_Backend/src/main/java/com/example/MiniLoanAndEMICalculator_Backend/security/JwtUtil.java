@@ -1,13 +1,23 @@
 package com.example.MiniLoanAndEMICalculator_Backend.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
 import java.util.Date;
+import java.util.UUID;
 import java.util.function.Function;
 import java.nio.charset.StandardCharsets;
 
@@ -20,8 +30,31 @@ public class JwtUtil {
     @Value("${app.jwt.expiration:86400000}")
     private long expirationMs;
 
+    @Value("${app.jwt.claims-cache.max-size:10000}")
+    private long claimsCacheMaxSize;
+
+    @Autowired
+    private TokenRevocationStore revocationStore;
+
+    // Built once: JwtParser is immutable and thread-safe
+    private Key signingKey;
+    private JwtParser parser;
+
+    // Verified claims by SHA-256 of the token, each kept until the token expires
+    private Cache<String, Claims> verifiedClaims;
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+        verifiedClaims = Caffeine.newBuilder()
+                .maximumSize(claimsCacheMaxSize)
+                .expireAfter(Expiry.creating((String hash, Claims claims) -> timeToExpiry(claims)))
+                .build();
+    }
+
     private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        return signingKey;
     }
 
     public String extractUsername(String token) {
@@ -37,17 +70,39 @@ public class JwtUtil {
         return claimsResolver.apply(claims);
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts
-                .parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    /**
+     * Verified claims of {@code token}. The signature is checked on the first
+     * call; later calls with the same token are answered from the cache until
+     * the token expires. Invalid or expired tokens throw and are not cached.
+     */
+    public Claims extractAllClaims(String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("JWT String argument cannot be null or empty.");
+        }
+        String hash = hash(token);
+        Claims claims = verifiedClaims.getIfPresent(hash);
+        if (claims == null) {
+            claims = parser.parseClaimsJws(token).getBody();
+            verifiedClaims.put(hash, claims);
+        }
+        return claims;
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    private static Duration timeToExpiry(Claims claims) {
+        Date expiration = claims.getExpiration();
+        if (expiration == null) {
+            return Duration.ZERO;
+        }
+        return Duration.ofMillis(Math.max(0, expiration.getTime() - System.currentTimeMillis()));
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 
     public String generateToken(String username) {
@@ -55,6 +110,7 @@ public class JwtUtil {
         Date expiry = new Date(now.getTime() + expirationMs);
 
         return Jwts.builder()
+                .setId(UUID.randomUUID().toString())   // jti, the key for revocation
                 .setSubject(username)
                 .setIssuedAt(now)
                 .setExpiration(expiry)
@@ -66,10 +122,17 @@ public class JwtUtil {
         return generateToken(authentication.getName());
     }
 
+    /** Revokes a valid token until it expires; it fails validation from then on. */
+    public void revokeToken(String token) {
+        Claims claims = extractAllClaims(token);
+        revocationStore.revoke(claims.getId(), claims.getExpiration());
+    }
+
     public boolean validateToken(String token, String username) {
         try {
-            final String extractedUsername = extractUsername(token);
-            return (extractedUsername.equals(username) && !isTokenExpired(token));
+            final Claims claims = extractAllClaims(token);
+            return (claims.getSubject().equals(username) && !claims.getExpiration().before(new Date())
+                    && !revocationStore.isRevoked(claims.getId()));
         } catch (JwtException | IllegalArgumentException e) {
             return false;
         }
@@ -77,11 +140,7 @@ public class JwtUtil {
 
     public boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
+            return !revocationStore.isRevoked(extractAllClaims(token).getId());
         } catch (JwtException | IllegalArgumentException e) {
             return false;
         }
@@ -0,0 +1,166 @@
+package com.example.MiniLoanAndEMICalculator_Backend.security;
+
+import com.example.MiniLoanAndEMICalculator_Backend.user.dto.PasswordHashingStats;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Runs BCrypt on a small dedicated pool instead of request threads, so a
+ * login burst uses at most {@code app.password-hashing.threads} cores and
+ * leaves the rest to other traffic. Requests beyond the bounded queue are
+ * refused at once with {@link PasswordHashingBusyException}.
+ */
+@Component
+public class PasswordHasher {
+
+    public enum Operation {
+        ENCODE, MATCH
+    }
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long retryAfterSeconds;
+    private final Map<Operation, Timings> timings = new EnumMap<>(Operation.class);
+
+    public PasswordHasher(PasswordEncoder passwordEncoder,
+                          @Value("${app.password-hashing.threads:0}") int threads,
+                          @Value("${app.password-hashing.queue-capacity:32}") int queueCapacity,
+                          @Value("${app.password-hashing.retry-after:PT1S}") Duration retryAfter) {
+        this.passwordEncoder = passwordEncoder;
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+        this.retryAfterSeconds = Math.max(1, retryAfter.toSeconds());
+        for (Operation operation : Operation.values()) {
+            timings.put(operation, new Timings());
+        }
+    }
+
+    public String encode(String rawPassword) {
+        return run(Operation.ENCODE, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return run(Operation.MATCH, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /** True when the hash was made with a lower cost than the encoder's current one. */
+    public boolean needsRehash(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * Hashes {@code rawPassword} again with the current cost and hands the
+     * result to {@code store}, off the caller's thread. Skipped when the
+     * queue is more than half full; the next login will try again.
+     */
+    public void rehashInBackground(String rawPassword, Consumer<String> store) {
+        BlockingQueue<Runnable> queue = executor.getQueue();
+        if (queue.size() > queue.remainingCapacity()) {
+            return;
+        }
+        TimedTask<Void> rehash = new TimedTask<>(timings.get(Operation.ENCODE), System.nanoTime(), () -> {
+            store.accept(passwordEncoder.encode(rawPassword));
+            return null;
+        });
+        try {
+            executor.execute(rehash::call);
+        } catch (RejectedExecutionException e) {
+            timings.get(Operation.ENCODE).rejected.increment();
+        }
+    }
+
+    public Map<Operation, PasswordHashingStats> getStats() {
+        Map<Operation, PasswordHashingStats> stats = new EnumMap<>(Operation.class);
+        timings.forEach((operation, timing) -> stats.put(operation, timing.stats()));
+        return stats;
+    }
+
+    int queuedTasks() {
+        return executor.getQueue().size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> T run(Operation operation, Supplier<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(new TimedTask<>(timings.get(operation), System.nanoTime(), task));
+        } catch (RejectedExecutionException e) {
+            timings.get(operation).rejected.increment();
+            throw new PasswordHashingBusyException(retryAfterSeconds);
+        }
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing password", e);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : new IllegalStateException(e.getCause());
+        }
+    }
+
+    // Records time spent queued and time spent hashing separately
+    private record TimedTask<T>(Timings timings, long submittedAt, Supplier<T> task) implements Callable<T> {
+        @Override
+        public T call() {
+            long started = System.nanoTime();
+            try {
+                return task.get();
+            } finally {
+                timings.record(started - submittedAt, System.nanoTime() - started);
+            }
+        }
+    }
+
+    private static final class Timings {
+        private final LongAdder completed = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder queueNanos = new LongAdder();
+        private final LongAdder hashNanos = new LongAdder();
+        private final LongAccumulator maxHashNanos = new LongAccumulator(Math::max, 0);
+
+        void record(long queuedNanos, long hashedNanos) {
+            completed.increment();
+            queueNanos.add(queuedNanos);
+            hashNanos.add(hashedNanos);
+            maxHashNanos.accumulate(hashedNanos);
+        }
+
+        PasswordHashingStats stats() {
+            long count = completed.sum();
+            return new PasswordHashingStats(count, rejected.sum(),
+                    count == 0 ? 0 : queueNanos.sum() / 1e6 / count,
+                    count == 0 ? 0 : hashNanos.sum() / 1e6 / count,
+                    maxHashNanos.get() / 1e6);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.MiniLoanAndEMICalculator_Backend.security;
+
+/** Thrown when the password hashing queue is full; answered with 503 and Retry-After by {@code RestExceptionHandler}. */
+public class PasswordHashingBusyException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public PasswordHashingBusyException(long retryAfterSeconds) {
+        super("Password hashing is busy, please retry shortly");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.MiniLoanAndEMICalculator_Backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Ids (jti) of tokens revoked before they expire. Each id is kept in an
+ * expiring set until its token would have expired anyway, with a Bloom filter
+ * in front of it: almost every request carries a token that was never
+ * revoked, and for those {@link #isRevoked} is a few lock-free bit reads.
+ *
+ * Bloom filters cannot forget, so once as many ids have been added as the
+ * filter was sized for it is rebuilt from the ids still in the set.
+ * Revocations are serialized; lookups never block.
+ */
+@Component
+public class TokenRevocationStore {
+
+    private final int expectedEntries;
+    private final double falsePositiveRate;
+    private final Cache<String, Date> revoked;
+    private volatile BloomFilter filter;
+
+    public TokenRevocationStore(@Value("${app.jwt.revocation.expected-entries:100000}") int expectedEntries,
+                                @Value("${app.jwt.revocation.false-positive-rate:0.01}") double falsePositiveRate) {
+        if (expectedEntries < 1 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("app.jwt.revocation needs expected-entries >= 1 and 0 < false-positive-rate < 1");
+        }
+        this.expectedEntries = expectedEntries;
+        this.falsePositiveRate = falsePositiveRate;
+        this.revoked = Caffeine.newBuilder()
+                .expireAfter(Expiry.creating((String id, Date expiresAt) ->
+                        Duration.ofMillis(Math.max(0, expiresAt.getTime() - System.currentTimeMillis()))))
+                .build();
+        this.filter = new BloomFilter(expectedEntries, falsePositiveRate);
+    }
+
+    /** Revokes the token with id {@code tokenId} until {@code expiresAt}. */
+    public synchronized void revoke(String tokenId, Date expiresAt) {
+        if (tokenId == null || expiresAt == null || !expiresAt.after(new Date())) {
+            return;   // nothing to revoke, or the token is already dead
+        }
+        revoked.put(tokenId, expiresAt);
+        if (filter.insertions() >= filter.capacity()) {
+            rebuild();
+        } else {
+            filter.add(tokenId);
+        }
+    }
+
+    public boolean isRevoked(String tokenId) {
+        return tokenId != null
+                && filter.mightContain(tokenId)
+                && revoked.getIfPresent(tokenId) != null;
+    }
+
+    public long size() {
+        revoked.cleanUp();
+        return revoked.estimatedSize();
+    }
+
+    // Caller holds the monitor; the set already contains every live id
+    private void rebuild() {
+        revoked.cleanUp();
+        int live = (int) Math.min(Integer.MAX_VALUE / 2, revoked.estimatedSize());
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedEntries, live * 2), falsePositiveRate);
+        revoked.asMap().keySet().forEach(rebuilt::add);
+        filter = rebuilt;
+    }
+
+    static final class BloomFilter {
+        private final AtomicLongArray words;
+        private final long bitCount;
+        private final int hashCount;
+        private final int capacity;
+        private int insertions;
+
+        BloomFilter(int capacity, double falsePositiveRate) {
+            long bits = (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (bits + 63) / 64));
+            this.words = new AtomicLongArray(wordCount);
+            this.bitCount = wordCount * 64L;
+            this.hashCount = Math.max(1, (int) Math.round((double) bitCount / capacity * Math.log(2)));
+            this.capacity = capacity;
+        }
+
+        int capacity() {
+            return capacity;
+        }
+
+        int insertions() {
+            return insertions;
+        }
+
+        // Single writer (the store's monitor); the volatile word writes publish the bits to readers
+        void add(String key) {
+            long hash = hash64(key);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                long bit = index(h1 + i * h2);
+                int word = (int) (bit >>> 6);
+                words.set(word, words.get(word) | (1L << bit));
+            }
+            insertions++;
+        }
+
+        boolean mightContain(String key) {
+            long hash = hash64(key);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                long bit = index(h1 + i * h2);
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private long index(int combined) {
+            return (combined & Integer.MAX_VALUE) % bitCount;
+        }
+
+        // 64-bit FNV-1a over the UTF-8 bytes, finished with the murmur3 mixer
+        private static long hash64(String key) {
+            long hash = 0xcbf29ce484222325L;
+            for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+                hash ^= b & 0xff;
+                hash *= 0x100000001b3L;
+            }
+            hash ^= hash >>> 33;
+            hash *= 0xff51afd7ed558ccdL;
+            hash ^= hash >>> 33;
+            hash *= 0xc4ceb93fe1a85ec3L;
+            hash ^= hash >>> 33;
+            return hash;
+        }
+    }
+}
@@ -5,8 +5,8 @@ import com.example.MiniLoanAndEMICalculator_Backend.user.entity.User;
 import com.example.MiniLoanAndEMICalculator_Backend.user.service.UserService;
 import com.example.MiniLoanAndEMICalculator_Backend.security.JwtUtil;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 import jakarta.validation.Valid;
 
@@ -20,50 +20,33 @@ public class AuthController {
     @Autowired
     private JwtUtil jwtUtil;
 
-    @Autowired
-    private PasswordEncoder passwordEncoder;
-
     @PostMapping("/register")
     public ResponseEntity<?> register(@Valid @RequestBody SignupRequest request) {
-        try {
-            User user = userService.registerUser(request);
-            String token = jwtUtil.generateToken(user.getEmail());
-            return ResponseEntity.ok(new TokenResponse(token, "User registered successfully"));
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().body("Error: " + e.getMessage());
-        }
+        User user = userService.registerUser(request);
+        String token = jwtUtil.generateToken(user.getEmail());
+        return ResponseEntity.ok(new TokenResponse(token, "User registered successfully"));
     }
 
     @PostMapping("/login")
     public ResponseEntity<?> login(@Valid @RequestBody LoginRequest request) {
-        try {
-            User user = userService.getUserByEmail(request.getEmail())
-                    .orElseThrow(() -> new RuntimeException("Invalid credentials"));
-            
-            if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
-                throw new RuntimeException("Invalid credentials");
-            }
+        User user = userService.authenticate(request.getEmail(), request.getPassword());
 
-            String token = jwtUtil.generateToken(user.getEmail());
-            LoginResponse response = new LoginResponse(token, user.getEmail(), user.getName(), user.getRole(), user.getId());
-            return ResponseEntity.ok(response);
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().body("Error: " + e.getMessage());
-        }
+        String token = jwtUtil.generateToken(user.getEmail());
+        LoginResponse response = new LoginResponse(token, user.getEmail(), user.getName(), user.getRole(), user.getId());
+        return ResponseEntity.ok(response);
     }
 
     @PostMapping("/reset-password")
     public ResponseEntity<?> resetPassword(@Valid @RequestBody ResetPasswordRequest request) {
-        try {
-            userService.resetPassword(request.getEmail());
-            return ResponseEntity.ok("New password sent to your email");
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().body("Error: " + e.getMessage());
-        }
+        userService.resetPassword(request.getEmail());
+        return ResponseEntity.ok("New password sent to your email");
     }
 
     @PostMapping("/logout")
-    public ResponseEntity<?> logout() {
+    public ResponseEntity<?> logout(@RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authHeader) {
+        if (authHeader != null && authHeader.startsWith("Bearer ")) {
+            jwtUtil.revokeToken(authHeader.substring(7));
+        }
         return ResponseEntity.ok("Logout successful");
     }
 
@@ -71,36 +54,23 @@ public class AuthController {
 
     @PostMapping("/register-admin")
     public ResponseEntity<?> registerAdmin(@Valid @RequestBody SignupRequest request) {
-        try {
-            // Register user with ROLE_ADMIN
-            User user = userService.registerUserAsAdmin(request);
-            String token = jwtUtil.generateToken(user.getEmail());
-            return ResponseEntity.ok(new TokenResponse(token, "Admin registered successfully"));
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().body("Error: " + e.getMessage());
-        }
+        // Register user with ROLE_ADMIN
+        User user = userService.registerUserAsAdmin(request);
+        String token = jwtUtil.generateToken(user.getEmail());
+        return ResponseEntity.ok(new TokenResponse(token, "Admin registered successfully"));
     }
 
     @PostMapping("/login-admin")
     public ResponseEntity<?> loginAdmin(@Valid @RequestBody LoginRequest request) {
-        try {
-            User user = userService.getUserByEmail(request.getEmail())
-                    .orElseThrow(() -> new RuntimeException("Invalid credentials"));
-            
-            if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
-                throw new RuntimeException("Invalid credentials");
-            }
+        User user = userService.authenticate(request.getEmail(), request.getPassword());
 
-            // Check if user is admin
-            if (!user.getRole().equals("ROLE_ADMIN")) {
-                throw new RuntimeException("This account does not have admin privileges");
-            }
-
-            String token = jwtUtil.generateToken(user.getEmail());
-            LoginResponse response = new LoginResponse(token, user.getEmail(), user.getName(), user.getRole(), user.getId());
-            return ResponseEntity.ok(response);
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().body("Error: " + e.getMessage());
+        // Check if user is admin
+        if (!user.getRole().equals("ROLE_ADMIN")) {
+            throw new RuntimeException("This account does not have admin privileges");
         }
+
+        String token = jwtUtil.generateToken(user.getEmail());
+        LoginResponse response = new LoginResponse(token, user.getEmail(), user.getName(), user.getRole(), user.getId());
+        return ResponseEntity.ok(response);
     }
 }
@@ -3,8 +3,7 @@ package com.example.MiniLoanAndEMICalculator_Backend.user.controller;
 import com.example.MiniLoanAndEMICalculator_Backend.user.dto.*;
 import com.example.MiniLoanAndEMICalculator_Backend.user.entity.User;
 import com.example.MiniLoanAndEMICalculator_Backend.user.service.UserService;
-import com.example.MiniLoanAndEMICalculator_Backend.security.JwtUtil;
-import com.example.MiniLoanAndEMICalculator_Backend.util.TokenExtractorUtil;
+import com.example.MiniLoanAndEMICalculator_Backend.security.AuthenticatedUser;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -16,44 +15,21 @@ public class UserController {
     @Autowired
     private UserService userService;
 
-    @Autowired
-    private JwtUtil jwtUtil;
-
     @GetMapping("/profile")
-    public ResponseEntity<?> getProfile(@RequestHeader("Authorization") String token) {
-        try {
-            String extractedToken = TokenExtractorUtil.extractToken(token);
-            String email = jwtUtil.extractUsername(extractedToken);
-            User user = userService.getUserByEmail(email).orElseThrow(() -> new RuntimeException("User not found"));
-            return ResponseEntity.ok(user);
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().body("Error: " + e.getMessage());
-        }
+    public ResponseEntity<?> getProfile(AuthenticatedUser user) {
+        User profile = userService.getUserById(user.id());
+        return ResponseEntity.ok(profile);
     }
 
     @PutMapping("/update-profile")
-    public ResponseEntity<?> updateProfile(@RequestHeader("Authorization") String token, @RequestBody UpdateProfileRequest request) {
-        try {
-            String extractedToken = TokenExtractorUtil.extractToken(token);
-            String email = jwtUtil.extractUsername(extractedToken);
-            User user = userService.getUserByEmail(email).orElseThrow(() -> new RuntimeException("User not found"));
-            userService.updateProfile(user.getId(), request);
-            return ResponseEntity.ok("Profile updated successfully");
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().body("Error: " + e.getMessage());
-        }
+    public ResponseEntity<?> updateProfile(AuthenticatedUser user, @RequestBody UpdateProfileRequest request) {
+        userService.updateProfile(user.id(), request);
+        return ResponseEntity.ok("Profile updated successfully");
     }
 
     @PutMapping("/change-password")
-    public ResponseEntity<?> changePassword(@RequestHeader("Authorization") String token, @RequestBody ChangePasswordRequest request) {
-        try {
-            String extractedToken = TokenExtractorUtil.extractToken(token);
-            String email = jwtUtil.extractUsername(extractedToken);
-            User user = userService.getUserByEmail(email).orElseThrow(() -> new RuntimeException("User not found"));
-            userService.changePassword(user.getId(), request);
-            return ResponseEntity.ok("Password changed successfully");
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().body("Error: " + e.getMessage());
-        }
+    public ResponseEntity<?> changePassword(AuthenticatedUser user, @RequestBody ChangePasswordRequest request) {
+        userService.changePassword(user.id(), request);
+        return ResponseEntity.ok("Password changed successfully");
     }
 }
@@ -0,0 +1,62 @@
+package com.example.MiniLoanAndEMICalculator_Backend.user.dto;
+
+public class PasswordHashingStats {
+    private long completed;
+    private long rejected;              // turned away with 503 because the queue was full
+    private double meanQueueMillis;     // time waiting for a hashing thread
+    private double meanHashMillis;
+    private double maxHashMillis;
+
+    // Constructors
+    public PasswordHashingStats() {}
+
+    public PasswordHashingStats(long completed, long rejected, double meanQueueMillis,
+                                double meanHashMillis, double maxHashMillis) {
+        this.completed = completed;
+        this.rejected = rejected;
+        this.meanQueueMillis = meanQueueMillis;
+        this.meanHashMillis = meanHashMillis;
+        this.maxHashMillis = maxHashMillis;
+    }
+
+    // Getters and Setters
+    public long getCompleted() {
+        return completed;
+    }
+
+    public void setCompleted(long completed) {
+        this.completed = completed;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(long rejected) {
+        this.rejected = rejected;
+    }
+
+    public double getMeanQueueMillis() {
+        return meanQueueMillis;
+    }
+
+    public void setMeanQueueMillis(double meanQueueMillis) {
+        this.meanQueueMillis = meanQueueMillis;
+    }
+
+    public double getMeanHashMillis() {
+        return meanHashMillis;
+    }
+
+    public void setMeanHashMillis(double meanHashMillis) {
+        this.meanHashMillis = meanHashMillis;
+    }
+
+    public double getMaxHashMillis() {
+        return maxHashMillis;
+    }
+
+    public void setMaxHashMillis(double maxHashMillis) {
+        this.maxHashMillis = maxHashMillis;
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.MiniLoanAndEMICalculator_Backend.user.dto;
+
+import com.example.MiniLoanAndEMICalculator_Backend.user.entity.User;
+import java.time.LocalDateTime;
+
+/** Profile fields that are safe to send back to the client (no password or KYC numbers). */
+public class UserSummary {
+    private Long id;
+    private String name;
+    private String email;
+    private String occupation;
+    private Double monthlyIncome;
+    private String role;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public UserSummary() {
+    }
+
+    // Used by the constructor expression in UserRepository.findAllSummaries
+    public UserSummary(Long id, String name, String email, String occupation, Double monthlyIncome,
+                       String role, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.name = name;
+        this.email = email;
+        this.occupation = occupation;
+        this.monthlyIncome = monthlyIncome;
+        this.role = role;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    public static UserSummary of(User user) {
+        return new UserSummary(user.getId(), user.getName(), user.getEmail(), user.getOccupation(),
+                user.getMonthlyIncome(), user.getRole(), user.getCreatedAt(), user.getUpdatedAt());
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public String getOccupation() {
+        return occupation;
+    }
+
+    public void setOccupation(String occupation) {
+        this.occupation = occupation;
+    }
+
+    public Double getMonthlyIncome() {
+        return monthlyIncome;
+    }
+
+    public void setMonthlyIncome(Double monthlyIncome) {
+        this.monthlyIncome = monthlyIncome;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    public void setRole(String role) {
+        this.role = role;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
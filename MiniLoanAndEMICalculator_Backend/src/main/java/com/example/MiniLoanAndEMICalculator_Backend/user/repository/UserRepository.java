@@ -1,9 +1,15 @@
 package com.example.MiniLoanAndEMICalculator_Backend.user.repository;
 
+import com.example.MiniLoanAndEMICalculator_Backend.user.dto.UserSummary;
 import com.example.MiniLoanAndEMICalculator_Backend.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -12,4 +18,15 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByEmail(String email);
     boolean existsByAadhaarNumber(String aadhaarNumber);
     boolean existsByPanNumber(String panNumber);
+
+    // Only replaces the hash it was computed from, so it cannot undo a concurrent password change
+    @Transactional
+    @Modifying
+    @Query("update User u set u.password = :newHash where u.id = :id and u.password = :oldHash")
+    int replacePasswordHash(@Param("id") Long id, @Param("oldHash") String oldHash, @Param("newHash") String newHash);
+
+    @Query("select new com.example.MiniLoanAndEMICalculator_Backend.user.dto.UserSummary(" +
+            "u.id, u.name, u.email, u.occupation, u.monthlyIncome, u.role, u.createdAt, u.updatedAt) " +
+            "from User u order by u.id")
+    List<UserSummary> findAllSummaries();
 }
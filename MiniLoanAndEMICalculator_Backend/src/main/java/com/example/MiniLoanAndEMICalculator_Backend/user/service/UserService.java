@@ -3,14 +3,20 @@ package com.example.MiniLoanAndEMICalculator_Backend.user.service;
 import com.example.MiniLoanAndEMICalculator_Backend.user.entity.User;
 import com.example.MiniLoanAndEMICalculator_Backend.user.repository.UserRepository;
 import com.example.MiniLoanAndEMICalculator_Backend.user.dto.*;
+import com.example.MiniLoanAndEMICalculator_Backend.security.PasswordHasher;
 import com.example.MiniLoanAndEMICalculator_Backend.service.EmailService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.Optional;
 import java.util.Random;
 
@@ -20,15 +26,56 @@ public class UserService implements UserDetailsService {
     private UserRepository userRepository;
 
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private PasswordHasher passwordHasher;
 
     @Autowired
     private EmailService emailService;
 
+    @Value("${app.user-cache.ttl:PT5M}")
+    private Duration userCacheTtl;
+
+    @Value("${app.user-cache.max-size:10000}")
+    private long userCacheMaxSize;
+
+    // Users by email for JwtRequestFilter, so authenticating a request needs
+    // no query in the steady state. Methods that change a user evict it;
+    // the TTL bounds staleness from any other writer.
+    private Cache<String, User> userDetailsCache;
+
+    @PostConstruct
+    void initUserDetailsCache() {
+        userDetailsCache = Caffeine.newBuilder()
+                .expireAfterWrite(userCacheTtl)
+                .maximumSize(userCacheMaxSize)
+                .recordStats()
+                .build();
+    }
+
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        return userRepository.findByEmail(username)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + username));
+        User user = userDetailsCache.get(username, email -> userRepository.findByEmail(email).orElse(null));
+        if (user == null) {
+            throw new UsernameNotFoundException("User not found with email: " + username);
+        }
+        return user;
+    }
+
+    // Call after the change is saved: an in-flight load of the same email
+    // finishes first and is then discarded, so the old row cannot linger
+    public void evictUserDetails(String email) {
+        userDetailsCache.invalidate(email);
+    }
+
+    public UserCacheStats getUserCacheStats() {
+        CacheStats stats = userDetailsCache.stats();
+        return new UserCacheStats(
+                stats.hitCount(),
+                stats.missCount(),
+                stats.evictionCount(),
+                stats.hitRate(),
+                userDetailsCache.estimatedSize(),
+                userCacheMaxSize
+        );
     }
 
     public User registerUser(SignupRequest request) {
@@ -50,12 +97,34 @@ public class UserService implements UserDetailsService {
         user.setAadhaarNumber(request.getAadhaarNumber());
         user.setPanNumber(request.getPanNumber());
         user.setRole("ROLE_USER");
-        user.setPassword(passwordEncoder.encode(request.getPassword()));
+        user.setPassword(passwordHasher.encode(request.getPassword()));
 
         User savedUser = userRepository.save(user);
         return savedUser;
     }
 
+    /**
+     * Checks the credentials and returns the user. A hash made with an older
+     * BCrypt cost is replaced in the background, so the cost can be raised
+     * without forcing password resets.
+     */
+    public User authenticate(String email, String rawPassword) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new RuntimeException("Invalid credentials"));
+        if (!passwordHasher.matches(rawPassword, user.getPassword())) {
+            throw new RuntimeException("Invalid credentials");
+        }
+        if (passwordHasher.needsRehash(user.getPassword())) {
+            String oldHash = user.getPassword();
+            passwordHasher.rehashInBackground(rawPassword, newHash -> {
+                if (userRepository.replacePasswordHash(user.getId(), oldHash, newHash) == 1) {
+                    evictUserDetails(user.getEmail());
+                }
+            });
+        }
+        return user;
+    }
+
     public Optional<User> getUserByEmail(String email) {
         return userRepository.findByEmail(email);
     }
@@ -69,23 +138,26 @@ public class UserService implements UserDetailsService {
         user.setOccupation(request.getOccupation());
         user.setMonthlyIncome(request.getMonthlyIncome());
         userRepository.save(user);
+        evictUserDetails(user.getEmail());
     }
 
     public void changePassword(Long userId, ChangePasswordRequest request) {
         User user = getUserById(userId);
-        if (!passwordEncoder.matches(request.getOldPassword(), user.getPassword())) {
+        if (!passwordHasher.matches(request.getOldPassword(), user.getPassword())) {
             throw new RuntimeException("Old password is incorrect");
         }
-        user.setPassword(passwordEncoder.encode(request.getNewPassword()));
+        user.setPassword(passwordHasher.encode(request.getNewPassword()));
         userRepository.save(user);
+        evictUserDetails(user.getEmail());
     }
 
     public void resetPassword(String email) {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new RuntimeException("User not found"));
         String newPassword = generateRandomPassword();
-        user.setPassword(passwordEncoder.encode(newPassword));
+        user.setPassword(passwordHasher.encode(newPassword));
         userRepository.save(user);
+        evictUserDetails(email);
         emailService.sendResetPasswordEmail(email, newPassword);
     }
 
@@ -108,7 +180,7 @@ public class UserService implements UserDetailsService {
         user.setAadhaarNumber(request.getAadhaarNumber());
         user.setPanNumber(request.getPanNumber());
         user.setRole("ROLE_ADMIN"); // Register as admin
-        user.setPassword(passwordEncoder.encode(request.getPassword()));
+        user.setPassword(passwordHasher.encode(request.getPassword()));
 
         User savedUser = userRepository.save(user);
         return savedUser;
@@ -0,0 +1,122 @@
+package com.example.MiniLoanAndEMICalculator_Backend.util;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Month-by-month amortization schedule that is generated on demand into
+ * caller-supplied primitive buffers, so a schedule of any length needs only
+ * one fixed-size chunk of memory and no per-row objects.
+ *
+ * Interest is charged on the outstanding balance and rounded to paise each
+ * month; the last instalment clears whatever balance is left.
+ */
+public final class AmortizationSchedule {
+
+    public static final int CHUNK_ROWS = 64;
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final double monthlyRate;
+    private final double emi;
+    private final int months;
+
+    private double balance;
+    private int month;
+
+    /**
+     * @param principal   amount borrowed
+     * @param monthlyRate monthly rate as a decimal (0.01 = 1% per month)
+     * @param emi         instalment paid each month
+     * @param months      number of instalments
+     */
+    public AmortizationSchedule(double principal, double monthlyRate, double emi, int months) {
+        if (principal <= 0 || monthlyRate < 0 || emi <= 0 || months <= 0) {
+            throw new IllegalArgumentException("Invalid parameters");
+        }
+        this.monthlyRate = monthlyRate;
+        this.emi = emi;
+        this.months = months;
+        this.balance = principal;
+    }
+
+    public int getMonths() {
+        return months;
+    }
+
+    public boolean hasNext() {
+        return month < months;
+    }
+
+    /**
+     * Fills the next rows of the schedule. Row i of the chunk describes month
+     * {@code firstMonth + i}, where firstMonth is the value of
+     * {@link #nextMonth()} before the call.
+     *
+     * @return number of rows written, 0 once the schedule is exhausted
+     */
+    public int fill(double[] principalPart, double[] interestPart, double[] balanceAfter) {
+        int rows = Math.min(Math.min(principalPart.length, interestPart.length), balanceAfter.length);
+        rows = Math.min(rows, months - month);
+
+        double bal = balance;
+        for (int i = 0; i < rows; i++) {
+            double interest = round2(bal * monthlyRate);
+            double principal = (month + i == months - 1) ? bal : Math.min(round2(emi - interest), bal);
+            bal = round2(bal - principal);
+
+            principalPart[i] = principal;
+            interestPart[i] = interest;
+            balanceAfter[i] = bal;
+        }
+        balance = bal;
+        month += rows;
+        return rows;
+    }
+
+    /**
+     * 1-based month number of the next row {@link #fill} will produce.
+     */
+    public int nextMonth() {
+        return month + 1;
+    }
+
+    /**
+     * Streams the remaining rows as NDJSON, one chunk at a time, flushing after
+     * every chunk so the client starts receiving rows immediately.
+     */
+    public void writeNdjson(OutputStream out) throws IOException {
+        double[] principal = new double[CHUNK_ROWS];
+        double[] interest = new double[CHUNK_ROWS];
+        double[] balanceAfter = new double[CHUNK_ROWS];
+
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(out, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            while (hasNext()) {
+                int first = nextMonth();
+                int rows = fill(principal, interest, balanceAfter);
+                for (int i = 0; i < rows; i++) {
+                    generator.writeStartObject();
+                    generator.writeNumberField("month", first + i);
+                    generator.writeNumberField("emi", round2(principal[i] + interest[i]));
+                    generator.writeNumberField("principal", principal[i]);
+                    generator.writeNumberField("interest", interest[i]);
+                    generator.writeNumberField("balance", balanceAfter[i]);
+                    generator.writeEndObject();
+                    generator.writeRaw('\n');
+                }
+                generator.flush();
+            }
+        }
+    }
+
+    private static double round2(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+}
@@ -5,26 +5,89 @@ public class EmiCalculator {
      * Calculate EMI using the formula: P * R * (1 + R)^N / ((1 + R)^N - 1)
      */
     public static Double calculateEmi(Double principal, Double annualRate, Integer tenureMonths) {
+        return calculateEmi(principal.doubleValue(), annualRate.doubleValue(), tenureMonths.intValue());
+    }
+
+    /**
+     * Primitive form of {@link #calculateEmi(Double, Double, Integer)}.
+     * Computes (1 + R)^N once and allocates nothing.
+     */
+    public static double calculateEmi(double principal, double annualRate, int tenureMonths) {
         if (principal <= 0 || annualRate < 0 || tenureMonths <= 0) {
             throw new IllegalArgumentException("Invalid parameters");
         }
 
         double monthlyRate = annualRate / 100 / 12;
-        
+
         if (monthlyRate == 0) {
             return principal / tenureMonths;
         }
 
-        double numerator = principal * monthlyRate * Math.pow(1 + monthlyRate, tenureMonths);
-        double denominator = Math.pow(1 + monthlyRate, tenureMonths) - 1;
-        return numerator / denominator;
+        double growth = Math.pow(1 + monthlyRate, tenureMonths);
+        return principal * monthlyRate * growth / (growth - 1);
+    }
+
+    /**
+     * EMI per unit of principal for a monthly rate given as a decimal:
+     * R * (1 + R)^N / ((1 + R)^N - 1), or 1 / N when the rate is zero.
+     */
+    public static double annuityFactor(double monthlyRate, int tenureMonths) {
+        if (monthlyRate == 0) {
+            return 1.0 / tenureMonths;
+        }
+        double growth = Math.pow(1 + monthlyRate, tenureMonths);
+        return (monthlyRate * growth) / (growth - 1);
+    }
+
+    /**
+     * d/dR of {@link #annuityFactor(double, int)}, used by the Newton solvers.
+     */
+    public static double annuityFactorRateDerivative(double monthlyRate, int tenureMonths) {
+        if (monthlyRate == 0) {
+            return (tenureMonths + 1) / (2.0 * tenureMonths);
+        }
+        double discount = Math.pow(1 + monthlyRate, -tenureMonths);
+        double oneMinus = 1 - discount;
+        return (oneMinus - monthlyRate * tenureMonths * discount / (1 + monthlyRate)) / (oneMinus * oneMinus);
+    }
+
+    /**
+     * Inverse of the EMI formula for a fixed rate: the principal P for which
+     * P * R * (1 + R)^N / ((1 + R)^N - 1) equals the given EMI.
+     */
+    public static double principalForEmi(double emi, double monthlyRate, int tenureMonths) {
+        return emi / annuityFactor(monthlyRate, tenureMonths);
+    }
+
+    /**
+     * Inverse of the EMI formula for a fixed rate, solved for tenure:
+     * N = -ln(1 - P * R / EMI) / ln(1 + R), as a real number of months.
+     * Infinite when the EMI does not cover the monthly interest.
+     */
+    public static double tenureForEmi(double principal, double emi, double monthlyRate) {
+        if (monthlyRate == 0) {
+            return principal / emi;
+        }
+        double interestShare = principal * monthlyRate / emi;
+        if (interestShare >= 1) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return -Math.log1p(-interestShare) / Math.log1p(monthlyRate);
     }
 
     public static Double calculateTotalPayable(Double emi, Integer tenureMonths) {
+        return calculateTotalPayable(emi.doubleValue(), tenureMonths.intValue());
+    }
+
+    public static double calculateTotalPayable(double emi, int tenureMonths) {
         return emi * tenureMonths;
     }
 
     public static Double getInterestRate(Double monthlyIncome) {
+        return getInterestRate(monthlyIncome.doubleValue());
+    }
+
+    public static double getInterestRate(double monthlyIncome) {
         if (monthlyIncome < 20000) {
             return 15.0;
         } else if (monthlyIncome < 50000) {
@@ -0,0 +1,56 @@
+package com.example.MiniLoanAndEMICalculator_Backend.util;
+
+/**
+ * Fixed-point money in paise (1/100 rupee) held in a plain long.
+ *
+ * Balances are stored and updated as whole paise so repeated payments add and
+ * subtract exactly, with no drift and no BigDecimal or wrapper allocation.
+ * Rupee doubles only appear at the edges (request DTOs and JSON), converted
+ * with the same half-up rounding to two decimals the service always used.
+ */
+public final class Money {
+
+    private Money() {
+    }
+
+    /** Largest amount whose paise are still exact in a double (2^53 paise). */
+    public static final double MAX_RUPEES = (1L << 53) / 100.0;
+
+    /**
+     * Rupees to paise, rounding half-up to the nearest paisa (as Math.round,
+     * so a negative half rounds towards zero).
+     */
+    public static long ofRupees(double rupees) {
+        if (Double.isNaN(rupees) || Double.isInfinite(rupees)) {
+            throw new IllegalArgumentException("Invalid amount");
+        }
+        if (Math.abs(rupees) > MAX_RUPEES) {
+            throw new IllegalArgumentException("Amount out of range");
+        }
+        return Math.round(rupees * 100.0);
+    }
+
+    /**
+     * Boxed variant for entity setters: paise columns have no null, so a
+     * missing amount is stored as zero instead of failing on unboxing.
+     */
+    public static long ofRupeesOrZero(Double rupees) {
+        return rupees == null ? 0L : ofRupees(rupees);
+    }
+
+    public static double toRupees(long paise) {
+        return paise / 100.0;
+    }
+
+    public static long add(long a, long b) {
+        return Math.addExact(a, b);
+    }
+
+    public static long subtract(long a, long b) {
+        return Math.subtractExact(a, b);
+    }
+
+    public static long multiply(long paise, int times) {
+        return Math.multiplyExact(paise, (long) times);
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.service;
+
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.dto.BulkLoanDecisionResponse;
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.entity.Loan;
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.repository.LoanRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+class LoanBulkDecisionTest {
+
+    @Autowired
+    private LoanService loanService;
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    @Test
+    void approvesTheOldestPendingLoanPerUserAndRejectsTheirOthers() {
+        Loan firstOfA = loan(7001L, Loan.LoanStatus.PENDING);
+        Loan secondOfA = loan(7001L, Loan.LoanStatus.PENDING);
+        Loan unlistedOfA = loan(7001L, Loan.LoanStatus.PENDING);
+        Loan onlyOfB = loan(7002L, Loan.LoanStatus.PENDING);
+        Loan otherUser = loan(7003L, Loan.LoanStatus.PENDING);
+
+        BulkLoanDecisionResponse response = loanService.approveLoans(
+                List.of(secondOfA.getId(), onlyOfB.getId(), firstOfA.getId()));
+
+        assertEquals(3, response.getRequested());
+        assertEquals(2, response.getUpdated());
+        assertEquals(2, response.getAutoRejected());
+        assertEquals(Loan.LoanStatus.APPROVED, status(firstOfA));
+        assertNotNull(loanRepository.findById(firstOfA.getId()).orElseThrow().getStartDate());
+        assertEquals(Loan.LoanStatus.REJECTED, status(secondOfA));
+        assertEquals(Loan.LoanStatus.REJECTED, status(unlistedOfA));
+        assertEquals(Loan.LoanStatus.APPROVED, status(onlyOfB));
+        assertEquals(Loan.LoanStatus.PENDING, status(otherUser));
+    }
+
+    @Test
+    void loansThatAreNoLongerPendingAreSkipped() {
+        Loan approved = loan(7011L, Loan.LoanStatus.APPROVED);
+        Loan rejected = loan(7012L, Loan.LoanStatus.REJECTED);
+        Loan completed = loan(7013L, Loan.LoanStatus.COMPLETED);
+        Loan pending = loan(7014L, Loan.LoanStatus.PENDING);
+
+        BulkLoanDecisionResponse approve = loanService.approveLoans(
+                List.of(approved.getId(), rejected.getId(), completed.getId(), -1L));
+        assertEquals(4, approve.getRequested());
+        assertEquals(0, approve.getUpdated());
+        assertEquals(0, approve.getAutoRejected());
+
+        BulkLoanDecisionResponse reject = loanService.rejectLoans(
+                List.of(approved.getId(), completed.getId(), pending.getId()));
+        assertEquals(1, reject.getUpdated());
+        assertEquals(Loan.LoanStatus.APPROVED, status(approved));
+        assertNull(loanRepository.findById(rejected.getId()).orElseThrow().getStartDate());
+        assertEquals(Loan.LoanStatus.REJECTED, status(rejected));
+        assertEquals(Loan.LoanStatus.COMPLETED, status(completed));
+        assertEquals(Loan.LoanStatus.REJECTED, status(pending));
+    }
+
+    @Test
+    void singleRejectOnlyTouchesPendingLoans() {
+        Loan approved = loan(7021L, Loan.LoanStatus.APPROVED);
+        Loan completed = loan(7022L, Loan.LoanStatus.COMPLETED);
+        Loan pending = loan(7023L, Loan.LoanStatus.PENDING);
+
+        RuntimeException notPending = assertThrows(RuntimeException.class, () -> loanService.rejectLoan(approved.getId()));
+        assertEquals("Loan is not pending", notPending.getMessage());
+        assertThrows(RuntimeException.class, () -> loanService.rejectLoan(completed.getId()));
+        loanService.rejectLoan(pending.getId());
+
+        assertEquals(Loan.LoanStatus.APPROVED, status(approved));
+        assertEquals(Loan.LoanStatus.COMPLETED, status(completed));
+        assertEquals(Loan.LoanStatus.REJECTED, status(pending));
+    }
+
+    private Loan.LoanStatus status(Loan loan) {
+        return loanRepository.findById(loan.getId()).orElseThrow().getStatus();
+    }
+
+    private Loan loan(Long userId, Loan.LoanStatus status) {
+        Loan loan = new Loan(userId, 10_000.0, 12.0, 12);
+        loan.setEmi(1_000.0);
+        loan.setTotalPayable(12_000.0);
+        loan.setStatus(status);
+        return loanRepository.save(loan);
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.service;
+
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.dto.LoanResponse;
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.entity.Loan;
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.entity.Payment;
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.repository.LoanBalanceSnapshotRepository;
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.repository.LoanRepository;
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.repository.PaymentRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+class LoanLedgerTest {
+
+    @Autowired
+    private LoanLedger loanLedger;
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private LoanBalanceSnapshotRepository snapshotRepository;
+
+    @Test
+    void balanceIsSnapshotPlusTail() {
+        Loan loan = approvedLoan(100_000.0);
+        for (int i = 1; i <= 150; i++) {
+            loanLedger.append(loan.getId(), Payment.PaymentType.EMI, i, null);
+        }
+
+        long expected = 150 * 151 / 2;
+        assertEquals(expected, loanLedger.paidPaise(loan.getId()));
+        assertEquals(128, snapshotRepository.findFirstByLoanIdOrderBySequenceDesc(loan.getId()).orElseThrow().getSequence());
+
+        Loan other = approvedLoan(100_000.0);
+        loanLedger.append(other.getId(), Payment.PaymentType.EMI, 500, null);
+        List<Loan> loans = loanLedger.attachBalances(loanRepository.findAllById(List.of(loan.getId(), other.getId())));
+        for (Loan attached : loans) {
+            long paid = attached.getId().equals(loan.getId()) ? expected : 500;
+            assertEquals(paid, attached.getPaidAmountPaise());
+            assertEquals(10_000_000 - paid, attached.getRemainingAmountPaise());
+        }
+    }
+
+    @Test
+    void fullPaymentRecordsTheAppliedAmountAndCompletesTheLoan() {
+        Loan loan = approvedLoan(1_000.0);
+        loanLedger.append(loan.getId(), Payment.PaymentType.EMI, 40_000, null);
+
+        assertThrows(RuntimeException.class,
+                () -> loanLedger.append(loan.getId(), Payment.PaymentType.FULL, 50_000, null));
+        Payment closing = loanLedger.append(loan.getId(), Payment.PaymentType.FULL, 70_000, null);
+
+        assertEquals(60_000, closing.getAmountPaidPaise());
+        assertEquals(2, closing.getSequence());
+        assertEquals(Loan.LoanStatus.COMPLETED, loanRepository.findById(loan.getId()).orElseThrow().getStatus());
+        assertEquals(2, paymentRepository.findByLoanId(loan.getId()).size());
+        assertThrows(RuntimeException.class,
+                () -> loanLedger.append(loan.getId(), Payment.PaymentType.EMI, 1, null));
+    }
+
+    @Test
+    void loanResponseProjectionCarriesTheSameBalance() {
+        Loan loan = approvedLoan(100_000.0);
+        for (int i = 1; i <= 70; i++) {
+            loanLedger.append(loan.getId(), Payment.PaymentType.EMI, 1_000, null);
+        }
+
+        LoanResponse response = loanRepository.findResponsesByStatusAfter(Loan.LoanStatus.APPROVED, loan.getId() - 1, Limit.of(1)).get(0);
+
+        assertEquals(loan.getId(), response.getId());
+        assertEquals(700.0, response.getPaidAmount());
+        assertEquals(100_000.0 - 700.0, response.getRemainingAmount());
+        assertEquals("APPROVED", response.getStatus());
+    }
+
+    private Loan approvedLoan(double total) {
+        Loan loan = new Loan(0L, total, 12.0, 12);
+        loan.setEmi(total / 12);
+        loan.setTotalPayable(total);
+        loan.setStatus(Loan.LoanStatus.APPROVED);
+        loan.setStartDate(LocalDateTime.now());
+        return loanRepository.save(loan);
+    }
+}
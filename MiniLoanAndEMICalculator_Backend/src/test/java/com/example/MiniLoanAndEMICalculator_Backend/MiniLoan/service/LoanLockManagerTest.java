@@ -0,0 +1,73 @@
+package com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.service;
+
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.dto.LockStats;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LoanLockManagerTest {
+
+    private final LoanLockManager locks = new LoanLockManager(64);
+
+    @Test
+    void differentLoansDoNotBlockEachOther() throws Exception {
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> holder = CompletableFuture.runAsync(() -> locks.withLoan(1L, () -> {
+            holding.countDown();
+            await(release);
+            return null;
+        }));
+        assertTrue(holding.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture<Boolean> other = CompletableFuture.supplyAsync(() -> locks.withLoan(2L, () -> true));
+        assertTrue(other.get(5, TimeUnit.SECONDS));
+
+        CompletableFuture<Boolean> same = CompletableFuture.supplyAsync(() -> locks.withLoan(1L, () -> true));
+        Thread.sleep(100);
+        assertFalse(same.isDone());
+
+        release.countDown();
+        holder.get(5, TimeUnit.SECONDS);
+        assertTrue(same.get(5, TimeUnit.SECONDS));
+
+        LockStats stats = locks.getLoanLockStats();
+        assertEquals(3, stats.getAcquisitions());
+        assertEquals(1, stats.getContended());
+        assertEquals(1, stats.getHottestStripeContended());
+        assertEquals(0, locks.getUserLockStats().getAcquisitions());
+    }
+
+    @Test
+    void sameLoanIsSerialized() throws Exception {
+        int[] counter = {0};
+        CompletableFuture<?>[] workers = new CompletableFuture<?>[8];
+        for (int t = 0; t < workers.length; t++) {
+            workers[t] = CompletableFuture.runAsync(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    locks.withLocks(List.of(7L), List.of(42L), () -> counter[0]++);
+                }
+            });
+        }
+        CompletableFuture.allOf(workers).get(30, TimeUnit.SECONDS);
+
+        assertEquals(8000, counter[0]);
+        assertEquals(8000, locks.getUserLockStats().getAcquisitions());
+        assertEquals(8000, locks.getLoanLockStats().getAcquisitions());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
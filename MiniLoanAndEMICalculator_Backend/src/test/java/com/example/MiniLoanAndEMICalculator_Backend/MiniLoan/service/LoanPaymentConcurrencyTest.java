@@ -0,0 +1,133 @@
+package com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.service;
+
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.entity.Loan;
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.repository.LoanRepository;
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.repository.PaymentRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+class LoanPaymentConcurrencyTest {
+
+    private static final int THREADS = 8;
+
+    @Autowired
+    private LoanService loanService;
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private LoanLedger loanLedger;
+
+    @Test
+    void concurrentPaymentsToOneLoanAreNotLost() throws Exception {
+        Loan loan = approvedLoan(100_000.0);
+        int perThread = 25;
+
+        runConcurrently(THREADS, t -> {
+            for (int i = 0; i < perThread; i++) {
+                loanService.payEmi(loan.getId(), 10.0);
+            }
+        });
+
+        Loan after = reload(loan.getId());
+        assertEquals(THREADS * perThread * 10.0, after.getPaidAmount());
+        assertEquals(100_000.0 - THREADS * perThread * 10.0, after.getRemainingAmount());
+        assertEquals(THREADS * perThread, paymentRepository.findByLoanId(loan.getId()).size());
+    }
+
+    @Test
+    void racingPaymentsCannotOverpay() throws Exception {
+        Loan loan = approvedLoan(1_000.0);
+        AtomicInteger accepted = new AtomicInteger();
+
+        runConcurrently(THREADS, t -> {
+            for (int i = 0; i < 20; i++) {
+                try {
+                    loanService.payEmi(loan.getId(), 50.0);
+                    accepted.incrementAndGet();
+                } catch (RuntimeException rejected) {
+                    // balance exhausted or loan already completed
+                }
+            }
+        });
+
+        Loan after = reload(loan.getId());
+        assertEquals(20, accepted.get());
+        assertEquals(0.0, after.getRemainingAmount());
+        assertEquals(Loan.LoanStatus.COMPLETED, after.getStatus());
+        assertEquals(20, paymentRepository.findByLoanId(loan.getId()).size());
+    }
+
+    @Test
+    void paymentsToDifferentLoansRunInParallel() throws Exception {
+        int perThread = 200;
+        List<Loan> loans = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            loans.add(approvedLoan(10_000.0));
+        }
+
+        runConcurrently(THREADS, t -> {
+            for (int i = 0; i < perThread; i++) {
+                loanService.payEmi(loans.get(t).getId(), 1.0);
+            }
+        });
+
+        for (Loan loan : loans) {
+            assertEquals(10_000.0 - perThread, reload(loan.getId()).getRemainingAmount());
+            assertEquals(perThread, paymentRepository.findByLoanId(loan.getId()).size());
+        }
+    }
+
+    private Loan reload(Long loanId) {
+        return loanLedger.attachBalance(loanRepository.findById(loanId).orElseThrow());
+    }
+
+    private Loan approvedLoan(double total) {
+        Loan loan = new Loan(0L, total, 12.0, 12);
+        loan.setEmi(total / 12);
+        loan.setTotalPayable(total);
+        loan.setStatus(Loan.LoanStatus.APPROVED);
+        loan.setStartDate(LocalDateTime.now());
+        return loanRepository.save(loan);
+    }
+
+    private interface Worker {
+        void run(int thread) throws Exception;
+    }
+
+    private static void runConcurrently(int threads, Worker worker) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Callable<Void>> tasks = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                tasks.add(() -> {
+                    worker.run(thread);
+                    return null;
+                });
+            }
+            for (Future<Void> future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
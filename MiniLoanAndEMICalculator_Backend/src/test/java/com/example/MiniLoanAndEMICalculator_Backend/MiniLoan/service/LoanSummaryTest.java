@@ -0,0 +1,83 @@
+package com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.service;
+
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.dto.LoanSummary;
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.entity.Loan;
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.entity.Payment;
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.repository.LoanRepository;
+import com.example.MiniLoanAndEMICalculator_Backend.user.entity.User;
+import com.example.MiniLoanAndEMICalculator_Backend.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class LoanSummaryTest {
+
+    @Autowired
+    private LoanService loanService;
+
+    @Autowired
+    private LoanLedger loanLedger;
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void summaryCarriesLedgerBalancesAndLatestPayments() {
+        User user = userRepository.save(new User("Summary", "summary@x.com", "hash", "dev", 30_000.0,
+                "900000000001", "SUMMA1234A", "ROLE_USER"));
+        Loan old = loan(user.getId(), Loan.LoanStatus.COMPLETED);
+        Loan active = loan(user.getId(), Loan.LoanStatus.APPROVED);
+        // Past the snapshot interval, so the balance is snapshot plus tail
+        for (int i = 1; i <= 70; i++) {
+            loanLedger.append(active.getId(), Payment.PaymentType.EMI, i, null);
+        }
+
+        LoanSummary summary = loanService.getSummary("summary@x.com");
+
+        assertEquals(user.getId(), summary.getProfile().getId());
+        assertEquals(active.getId(), summary.getActiveLoan().getId());
+        assertEquals(70 * 71 / 2, summary.getActiveLoan().getPaidAmountPaise());
+        assertEquals(2, summary.getLoans().size());
+        assertEquals(active.getId(), summary.getLoans().get(0).getId());
+        assertEquals(old.getId(), summary.getLoans().get(1).getId());
+        assertEquals(10, summary.getRecentPayments().size());
+        assertEquals(70, summary.getRecentPayments().get(0).getSequence());
+
+        assertEquals(summary.getVersion(), loanService.getSummary("summary@x.com").getVersion());
+        loanLedger.append(active.getId(), Payment.PaymentType.EMI, 1, null);
+        assertNotEquals(summary.getVersion(), loanService.getSummary("summary@x.com").getVersion());
+    }
+
+    @Test
+    void userWithoutLoansGetsAnEmptySummary() {
+        userRepository.save(new User("Empty", "empty@x.com", "hash", "dev", 30_000.0,
+                "900000000002", "EMPTY1234A", "ROLE_USER"));
+
+        LoanSummary summary = loanService.getSummary("empty@x.com");
+
+        assertEquals("empty@x.com", summary.getProfile().getEmail());
+        assertNull(summary.getActiveLoan());
+        assertTrue(summary.getLoans().isEmpty());
+        assertTrue(summary.getRecentPayments().isEmpty());
+    }
+
+    private Loan loan(Long userId, Loan.LoanStatus status) {
+        Loan loan = new Loan(userId, 10_000.0, 12.0, 12);
+        loan.setEmi(1_000.0);
+        loan.setTotalPayable(12_000.0);
+        loan.setStatus(status);
+        loan.setStartDate(LocalDateTime.now());
+        return loanRepository.save(loan);
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.service;
+
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.dto.PaymentPage;
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.entity.Loan;
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.entity.Payment;
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.repository.LoanRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class PaymentHistoryTest {
+
+    private static final long USER_ID = 9_001L;
+
+    @Autowired
+    private LoanService loanService;
+
+    @Autowired
+    private LoanLedger loanLedger;
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    @Test
+    void pagesAndStreamCoverEveryLoanInDateOrder() {
+        Loan first = loan();
+        Loan second = loan();
+        List<Long> expected = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            expected.add(loanLedger.append(first.getId(), Payment.PaymentType.EMI, 100, null).getId());
+            expected.add(loanLedger.append(second.getId(), Payment.PaymentType.EMI, 100, null).getId());
+        }
+
+        List<Long> paged = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            PaymentPage page = loanService.getPaymentHistory(USER_ID, cursor, 3);
+            page.getPayments().forEach(payment -> paged.add(payment.getId()));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+        assertEquals(expected, paged);
+        assertEquals(4, pages);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        loanService.writePaymentHistoryNdjson(USER_ID, out);
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(10, lines.length);
+        assertTrue(lines[0].contains("\"id\":" + expected.get(0) + ","));
+        assertTrue(lines[9].contains("\"id\":" + expected.get(9) + ","));
+    }
+
+    @Test
+    void rejectsBadCursorsAndSizes() {
+        assertNull(loanService.getPaymentHistory(USER_ID + 1, null, null).getNextCursor());
+        assertThrows(RuntimeException.class, () -> loanService.getPaymentHistory(USER_ID, "not-a-cursor", 10));
+        assertThrows(RuntimeException.class, () -> loanService.getPaymentHistory(USER_ID, null, 0));
+    }
+
+    private Loan loan() {
+        Loan loan = new Loan(USER_ID, 10_000.0, 12.0, 12);
+        loan.setEmi(1_000.0);
+        loan.setTotalPayable(12_000.0);
+        loan.setStatus(Loan.LoanStatus.APPROVED);
+        loan.setStartDate(LocalDateTime.now());
+        return loanRepository.save(loan);
+    }
+}
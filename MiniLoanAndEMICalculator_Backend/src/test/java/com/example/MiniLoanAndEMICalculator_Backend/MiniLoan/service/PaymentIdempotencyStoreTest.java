@@ -0,0 +1,175 @@
+package com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.service;
+
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.dto.PaymentTicket;
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.entity.Loan;
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.entity.Payment;
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.repository.LoanRepository;
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.repository.PaymentRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class PaymentIdempotencyStoreTest {
+
+    @Autowired
+    private LoanService loanService;
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private LoanLedger loanLedger;
+
+    @Autowired
+    private LoanLockManager loanLocks;
+
+    @Test
+    void replayReturnsOriginalPaymentWithoutChargingAgain() {
+        Loan loan = approvedLoan();
+        PaymentIdempotencyStore store = newStore();
+
+        PaymentIdempotencyStore.Receipt first = store.execute("1:replay", 10_000, () -> loanService.payEmi(loan.getId(), 100.0, "1:replay"));
+        PaymentIdempotencyStore.Receipt second = store.execute("1:replay", 10_000, () -> loanService.payEmi(loan.getId(), 100.0, "1:replay"));
+
+        assertFalse(first.replayed());
+        assertTrue(second.replayed());
+        assertEquals(first.paymentId(), second.paymentId());
+        assertEquals(900.0, reload(loan.getId()).getRemainingAmount());
+        assertThrows(RuntimeException.class,
+                () -> store.execute("1:replay", 20_000, () -> loanService.payEmi(loan.getId(), 200.0, "1:replay")));
+    }
+
+    @Test
+    void uniqueKeyColumnCatchesReplaysTheStoreHasForgotten() {
+        Loan loan = approvedLoan();
+        newStore().execute("1:restart", 10_000, () -> loanService.payEmi(loan.getId(), 100.0, "1:restart"));
+
+        PaymentIdempotencyStore.Receipt replay = newStore()
+                .execute("1:restart", 10_000, () -> loanService.payEmi(loan.getId(), 100.0, "1:restart"));
+
+        assertTrue(replay.replayed());
+        assertEquals(900.0, reload(loan.getId()).getRemainingAmount());
+        assertEquals(1, paymentRepository.findByLoanId(loan.getId()).size());
+    }
+
+    @Test
+    void forgottenRetryOfAPaymentThatClosedTheLoanIsReplayed() {
+        Loan loan = approvedLoan(7101L);
+        Supplier<Payment> payOff = () -> loanService.payEmi(loanService.getCurrentLoan(7101L).getId(), 1000.0, "7101:close");
+        newStore().execute("7101:close", 100_000, payOff);
+        assertEquals(Loan.LoanStatus.COMPLETED, reload(loan.getId()).getStatus());
+
+        PaymentIdempotencyStore.Receipt replay = newStore().execute("7101:close", 100_000, payOff);
+
+        assertTrue(replay.replayed());
+        assertEquals(1, paymentRepository.findByLoanId(loan.getId()).size());
+        assertThrows(RuntimeException.class, () -> newStore().execute("7101:close", 50_000, payOff));
+    }
+
+    @Test
+    void forgottenRetryThatTheRemainingBalanceCannotAbsorbIsReplayed() {
+        Loan loan = approvedLoan(7102L);
+        Supplier<Payment> pay = () -> loanService.payEmi(loan.getId(), 900.0, "7102:big");
+        newStore().execute("7102:big", 90_000, pay);
+
+        PaymentIdempotencyStore.Receipt replay = newStore().execute("7102:big", 90_000, pay);
+
+        assertTrue(replay.replayed());
+        assertEquals(100.0, reload(loan.getId()).getRemainingAmount());
+    }
+
+    @Test
+    void concurrentRetriesPayOnce() throws Exception {
+        Loan loan = approvedLoan();
+        PaymentIdempotencyStore store = newStore();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<PaymentIdempotencyStore.Receipt>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> store.execute("1:burst", 10_000,
+                        () -> loanService.payEmi(loan.getId(), 100.0, "1:burst"))));
+            }
+            int originals = 0;
+            for (Future<PaymentIdempotencyStore.Receipt> future : futures) {
+                originals += future.get().replayed() ? 0 : 1;
+            }
+            assertEquals(1, originals);
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(900.0, reload(loan.getId()).getRemainingAmount());
+    }
+
+    @Test
+    void queuedRetriesGetTheOriginalTicketAndLaterTheReceipt() throws Exception {
+        Loan loan = approvedLoan(7103L);
+        PaymentIngestionPipeline pipeline = new PaymentIngestionPipeline(loanLedger, loanLocks, true, 50,
+                Duration.ofMillis(50), 100, Duration.ofSeconds(30));
+        pipeline.start();
+        try {
+            PaymentIdempotencyStore store = newStore();
+            Supplier<PaymentTicket> queue = () -> pipeline.submit(7103L,
+                    new LoanLedger.Entry(loan.getId(), Payment.PaymentType.EMI, 10_000, "7103:async"));
+
+            PaymentIdempotencyStore.Submission first = store.submit("7103:async", 10_000, queue);
+            PaymentIdempotencyStore.Submission retry = store.submit("7103:async", 10_000, queue);
+
+            assertFalse(first.replayed());
+            assertTrue(retry.replayed());
+            assertSame(first.ticket(), retry.ticket());
+            assertThrows(RuntimeException.class, () -> store.submit("7103:async", 20_000, queue));
+
+            first.ticket().getCompletion().get(30, TimeUnit.SECONDS);
+            PaymentIdempotencyStore.Submission forgotten = newStore().submit("7103:async", 10_000, queue);
+            assertNull(forgotten.ticket());
+            assertEquals(first.ticket().getPaymentId(), forgotten.receipt().paymentId());
+            assertTrue(store.execute("7103:async", 10_000, () -> loanService.payEmi(loan.getId(), 100.0, "7103:async")).replayed());
+        } finally {
+            pipeline.stop();
+        }
+        assertEquals(1, paymentRepository.findByLoanId(loan.getId()).size());
+        assertEquals(900.0, reload(loan.getId()).getRemainingAmount());
+    }
+
+    private PaymentIdempotencyStore newStore() {
+        return new PaymentIdempotencyStore(paymentRepository, Duration.ofMinutes(5), 1000);
+    }
+
+    private Loan reload(Long loanId) {
+        return loanLedger.attachBalance(loanRepository.findById(loanId).orElseThrow());
+    }
+
+    private Loan approvedLoan() {
+        return approvedLoan(0L);
+    }
+
+    private Loan approvedLoan(Long userId) {
+        Loan loan = new Loan(userId, 1000.0, 12.0, 12);
+        loan.setEmi(100.0);
+        loan.setTotalPayable(1000.0);
+        loan.setStatus(Loan.LoanStatus.APPROVED);
+        loan.setStartDate(LocalDateTime.now());
+        return loanRepository.save(loan);
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.service;
+
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.dto.PaymentTicket;
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.entity.Loan;
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.entity.Payment;
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.repository.LoanBalanceSnapshotRepository;
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.repository.LoanRepository;
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.repository.PaymentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class PaymentIngestionPipelineTest {
+
+    @Autowired
+    private LoanLedger loanLedger;
+
+    @Autowired
+    private LoanLockManager loanLocks;
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private LoanBalanceSnapshotRepository snapshotRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private PaymentIngestionPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        pipeline = new PaymentIngestionPipeline(loanLedger, loanLocks, true, 50, Duration.ofMillis(20), 10_000,
+                Duration.ofSeconds(30));
+        pipeline.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        pipeline.stop();
+    }
+
+    @Test
+    void concurrentSubmissionsAreGroupCommitted() throws Exception {
+        List<Loan> loans = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            loans.add(approvedLoan(10_000.0));
+        }
+
+        List<CompletableFuture<PaymentTicket>> submitted = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            Loan loan = loans.get(t);
+            submitted.add(CompletableFuture.supplyAsync(() -> {
+                PaymentTicket last = null;
+                for (int i = 0; i < 50; i++) {
+                    last = pipeline.submit(1L, new LoanLedger.Entry(loan.getId(), Payment.PaymentType.EMI, 100, null));
+                }
+                return last;
+            }));
+        }
+        for (CompletableFuture<PaymentTicket> future : submitted) {
+            PaymentTicket ticket = future.get(30, TimeUnit.SECONDS);
+            ticket.getCompletion().get(30, TimeUnit.SECONDS);
+            assertEquals(PaymentTicket.Status.COMPLETED, ticket.getStatus());
+        }
+
+        for (Loan loan : loans) {
+            assertEquals(50 * 100, loanLedger.paidPaise(loan.getId()));
+        }
+        assertEquals(400, pipeline.getIngested());
+        assertTrue(pipeline.getBatches() < 400, "expected payments to share batches");
+    }
+
+    @Test
+    void entriesInOneBatchSeeEachOthersBalance() throws Exception {
+        Loan loan = approvedLoan(1_000.0);
+        List<PaymentTicket> tickets = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            tickets.add(pipeline.submit(1L, new LoanLedger.Entry(loan.getId(), Payment.PaymentType.EMI, 5_000, null)));
+        }
+        int completed = 0;
+        for (PaymentTicket ticket : tickets) {
+            try {
+                ticket.getCompletion().get(30, TimeUnit.SECONDS);
+                completed++;
+            } catch (Exception refused) {
+                assertEquals(PaymentTicket.Status.FAILED, ticket.getStatus());
+            }
+        }
+
+        assertEquals(20, completed);
+        assertEquals(100_000, loanLedger.paidPaise(loan.getId()));
+        assertEquals(Loan.LoanStatus.COMPLETED, loanRepository.findById(loan.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void anErrorInOneBatchFailsItsTicketsAndTheWriterCarriesOn() throws Exception {
+        AtomicBoolean broken = new AtomicBoolean(true);
+        LoanLedger flaky = new LoanLedger(loanRepository, paymentRepository, snapshotRepository, transactionManager, 64) {
+            @Override
+            public List<Outcome> appendAll(List<Entry> entries) {
+                if (broken.getAndSet(false)) {
+                    throw new StackOverflowError("boom");
+                }
+                return super.appendAll(entries);
+            }
+        };
+        PaymentIngestionPipeline flakyPipeline = new PaymentIngestionPipeline(flaky, loanLocks, true, 50,
+                Duration.ZERO, 100, Duration.ofSeconds(30));
+        flakyPipeline.start();
+        try {
+            Loan loan = approvedLoan(1_000.0);
+            PaymentTicket lost = flakyPipeline.submit(1L, new LoanLedger.Entry(loan.getId(), Payment.PaymentType.EMI, 5_000, null));
+            assertThrows(RuntimeException.class, () -> flakyPipeline.await(lost));
+            assertEquals(PaymentTicket.Status.FAILED, lost.getStatus());
+
+            PaymentTicket next = flakyPipeline.submit(1L, new LoanLedger.Entry(loan.getId(), Payment.PaymentType.EMI, 5_000, null));
+            flakyPipeline.await(next);
+            assertEquals(PaymentTicket.Status.COMPLETED, next.getStatus());
+            assertEquals(5_000, loanLedger.paidPaise(loan.getId()));
+        } finally {
+            flakyPipeline.stop();
+        }
+    }
+
+    @Test
+    void waitsAreBoundedAndAStoppedPipelineRefusesWork() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        LoanLedger slow = new LoanLedger(loanRepository, paymentRepository, snapshotRepository, transactionManager, 64) {
+            @Override
+            public List<Outcome> appendAll(List<Entry> entries) {
+                try {
+                    release.await(30, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.appendAll(entries);
+            }
+        };
+        PaymentIngestionPipeline slowPipeline = new PaymentIngestionPipeline(slow, loanLocks, true, 50,
+                Duration.ZERO, 100, Duration.ofMillis(100));
+        slowPipeline.start();
+        Loan loan = approvedLoan(1_000.0);
+        try {
+            PaymentTicket ticket = slowPipeline.submit(1L, new LoanLedger.Entry(loan.getId(), Payment.PaymentType.EMI, 5_000, null));
+            RuntimeException timedOut = assertThrows(RuntimeException.class, () -> slowPipeline.await(ticket));
+            assertTrue(timedOut.getMessage().contains(ticket.getId()), timedOut.getMessage());
+
+            release.countDown();
+            ticket.getCompletion().get(30, TimeUnit.SECONDS);
+            assertEquals(PaymentTicket.Status.COMPLETED, ticket.getStatus());
+        } finally {
+            release.countDown();
+            slowPipeline.stop();
+        }
+        assertThrows(RuntimeException.class,
+                () -> slowPipeline.submit(1L, new LoanLedger.Entry(loan.getId(), Payment.PaymentType.EMI, 5_000, null)));
+    }
+
+    private Loan approvedLoan(double total) {
+        Loan loan = new Loan(0L, total, 12.0, 12);
+        loan.setEmi(total / 12);
+        loan.setTotalPayable(total);
+        loan.setStatus(Loan.LoanStatus.APPROVED);
+        loan.setStartDate(LocalDateTime.now());
+        return loanRepository.save(loan);
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.service;
+
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.dto.SimulationResult;
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.dto.SimulationScenario;
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.entity.Loan;
+import com.example.MiniLoanAndEMICalculator_Backend.util.EmiCalculator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PrepaymentSimulatorTest {
+
+    private final PrepaymentSimulator simulator = new PrepaymentSimulator(4);
+
+    @AfterEach
+    void tearDown() {
+        simulator.shutdown();
+    }
+
+    @Test
+    void baselineClosesAtTenureWithNoSaving() {
+        SimulationResult result = simulator.simulate(loan(), List.of(new SimulationScenario()),
+                PrepaymentSimulator.Mode.SEQUENTIAL).get(0);
+
+        assertEquals(12, result.getClosingMonth());
+        assertEquals(0.0, result.getInterestSaved());
+        assertEquals(20000.0, result.getTotalPaid() - result.getTotalInterest(), 0.001);
+    }
+
+    @Test
+    void prepaymentClosesEarlierAndSavesInterest() {
+        SimulationScenario prepay = new SimulationScenario("prepay", List.of(new SimulationScenario.Prepayment(3, 5000.0)), null, null);
+        SimulationScenario skip = new SimulationScenario("skip", null, List.of(2), null);
+
+        List<SimulationResult> results = simulator.simulate(loan(), List.of(prepay, skip), PrepaymentSimulator.Mode.SEQUENTIAL);
+
+        assertTrue(results.get(0).getClosingMonth() < 12);
+        assertTrue(results.get(0).getInterestSaved() > 0);
+        assertEquals(13, results.get(1).getClosingMonth());
+        assertTrue(results.get(1).getInterestSaved() < 0);
+    }
+
+    @Test
+    void simulationStartsFromWhatTheLedgerSaysIsPaid() {
+        Loan fresh = loan();
+        Loan partlyPaid = loan();
+        partlyPaid.setPaidAmountPaise(3 * partlyPaid.getEmiPaise() + 1000);
+        SimulationScenario prepay = new SimulationScenario("prepay", List.of(new SimulationScenario.Prepayment(5, 5000.0)), null, null);
+
+        SimulationResult fromStart = simulator.simulate(fresh, List.of(new SimulationScenario(), prepay),
+                PrepaymentSimulator.Mode.SEQUENTIAL).get(0);
+        List<SimulationResult> fromLedger = simulator.simulate(partlyPaid, List.of(new SimulationScenario(), prepay),
+                PrepaymentSimulator.Mode.SEQUENTIAL);
+
+        // Only the remaining months are simulated; the extra 10 rupees shortens nothing but saves interest
+        assertEquals(12, fromLedger.get(0).getClosingMonth());
+        assertTrue(fromLedger.get(0).getTotalPaid() < fromStart.getTotalPaid() - 3 * fresh.getEmi());
+        assertTrue(fromLedger.get(0).getTotalInterest() < fromStart.getTotalInterest());
+        assertTrue(fromLedger.get(1).getClosingMonth() < 12);
+        assertTrue(fromLedger.get(1).getInterestSaved() > 0);
+
+        SimulationScenario past = new SimulationScenario("past", List.of(new SimulationScenario.Prepayment(3, 100.0)), null, null);
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> simulator.simulate(partlyPaid, List.of(past), PrepaymentSimulator.Mode.SEQUENTIAL));
+        assertEquals("Month must be between 4 and 600 (3 instalments are already paid)", e.getMessage());
+    }
+
+    @Test
+    void paidOffLoanHasNothingLeftToSimulate() {
+        Loan paidOff = loan();
+        paidOff.setPaidAmountPaise(paidOff.getTotalPayablePaise());
+
+        SimulationResult result = simulator.simulate(paidOff, List.of(new SimulationScenario()),
+                PrepaymentSimulator.Mode.SEQUENTIAL).get(0);
+
+        assertEquals(12, result.getClosingMonth());
+        assertEquals(0.0, result.getTotalPaid());
+    }
+
+    @Test
+    void parallelMatchesSequential() {
+        List<SimulationScenario> scenarios = new ArrayList<>();
+        for (int i = 1; i <= 200; i++) {
+            scenarios.add(new SimulationScenario("s" + i,
+                    List.of(new SimulationScenario.Prepayment(1 + i % 12, 50.0 * i)),
+                    i % 3 == 0 ? List.of(1 + i % 5) : null,
+                    i % 7 == 0 ? 1 + i % 12 : null));
+        }
+
+        List<SimulationResult> sequential = simulator.simulate(loan(), scenarios, PrepaymentSimulator.Mode.SEQUENTIAL);
+        List<SimulationResult> parallel = simulator.simulate(loan(), scenarios, PrepaymentSimulator.Mode.PARALLEL);
+
+        assertEquals(sequential.size(), parallel.size());
+        for (int i = 0; i < sequential.size(); i++) {
+            assertEquals(sequential.get(i).getName(), parallel.get(i).getName());
+            assertEquals(sequential.get(i).getClosingMonth(), parallel.get(i).getClosingMonth());
+            assertEquals(sequential.get(i).getTotalInterest(), parallel.get(i).getTotalInterest());
+            assertEquals(sequential.get(i).getInterestSaved(), parallel.get(i).getInterestSaved());
+            assertEquals(sequential.get(i).getTotalPaid(), parallel.get(i).getTotalPaid());
+        }
+    }
+
+    private static Loan loan() {
+        Loan loan = new Loan(1L, 20000.0, 12.0, 12);
+        loan.setEmi(EmiCalculator.calculateEmi(20000.0, 12.0, 12));
+        loan.setTotalPayablePaise(loan.getEmiPaise() * 12);
+        return loan;
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.service;
+
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.dto.PaymentTicket;
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.entity.Loan;
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.repository.LoanRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// The writer lingers far longer than a synchronous payment waits, so every wait times out
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:queuedpaymentdb",
+        "app.payment.ingest.enabled=true",
+        "app.payment.ingest.linger=PT0.5S",
+        "app.payment.ingest.await-timeout=PT0.001S"
+})
+class QueuedPaymentTimeoutTest {
+
+    @Autowired
+    private LoanService loanService;
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    @Test
+    void ownerCanLookUpTheTicketOfATimedOutPayment() throws Exception {
+        Loan loan = new Loan(7201L, 1000.0, 12.0, 12);
+        loan.setEmi(100.0);
+        loan.setTotalPayable(1000.0);
+        loan.setStatus(Loan.LoanStatus.APPROVED);
+        loan.setStartDate(LocalDateTime.now());
+        Long loanId = loanRepository.save(loan).getId();
+
+        RuntimeException timedOut = assertThrows(RuntimeException.class,
+                () -> loanService.payEmi(loanId, 100.0, "7201:slow"));
+        assertTrue(timedOut.getMessage().contains("check ticket "), timedOut.getMessage());
+        String ticketId = timedOut.getMessage().substring(timedOut.getMessage().indexOf("check ticket ") + 13);
+
+        PaymentTicket ticket = loanService.getPaymentTicket(7201L, ticketId);
+        ticket.getCompletion().get(30, TimeUnit.SECONDS);
+        assertEquals(PaymentTicket.Status.COMPLETED, loanService.getPaymentTicket(7201L, ticketId).getStatus());
+        assertThrows(RuntimeException.class, () -> loanService.getPaymentTicket(7202L, ticketId));
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.MiniLoanAndEMICalculator_Backend.emiCalculator.service;
+
+import com.example.MiniLoanAndEMICalculator_Backend.emiCalculator.dto.EmiGridRequest;
+import com.example.MiniLoanAndEMICalculator_Backend.emiCalculator.dto.EmiGridResponse;
+import com.example.MiniLoanAndEMICalculator_Backend.emiCalculator.dto.EmiRequest;
+import com.example.MiniLoanAndEMICalculator_Backend.emiCalculator.dto.EmiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class EmiGridKernelTest {
+
+    private final EmiService emiService = new EmiService(new ObjectMapper());
+
+    @Test
+    void everyCellMatchesTheSingleQuote() {
+        // Table cells, fractional and clamped amounts, and tenures past the table
+        double[] amounts = {1, 999.99, 1000, 1234.56, 10000, 27500.5, 49999, 50000, 75000};
+        int[] months = {1, 2, 6, 12, 13, 24, 36, 120};
+
+        EmiGridResponse grid = emiService.calculateGrid(new EmiGridRequest(amounts, months));
+
+        for (int i = 0; i < amounts.length; i++) {
+            for (int j = 0; j < months.length; j++) {
+                int cell = i * months.length + j;
+                EmiResponse quote = emiService.calculateEmi(new EmiRequest(amounts[i], months[j]));
+                String label = amounts[i] + " x " + months[j];
+                assertEquals(quote.getMonthlyRates(), grid.getMonthlyRates()[cell], label);
+                assertEquals(quote.getMonthlyEmi(), grid.getMonthlyEmi()[cell], label);
+                assertEquals(quote.getTotalInterest(), grid.getTotalInterest()[cell], label);
+                assertEquals(quote.getTotalPayment(), grid.getTotalPayment()[cell], label);
+            }
+        }
+    }
+
+    @Test
+    void subPaisaAmountsArePricedLikeTheSingleQuote() {
+        double[] amounts = {1234.565, 27500.504, 49999.995};
+        int[] months = {7, 12, 24};
+
+        EmiGridResponse grid = emiService.calculateGrid(new EmiGridRequest(amounts, months));
+
+        for (int i = 0; i < amounts.length; i++) {
+            for (int j = 0; j < months.length; j++) {
+                int cell = i * months.length + j;
+                EmiResponse quote = emiService.calculateEmi(new EmiRequest(amounts[i], months[j]));
+                String label = amounts[i] + " x " + months[j];
+                assertEquals(quote.getAmount(), grid.getAmounts()[i], label);
+                assertEquals(quote.getMonthlyRates(), grid.getMonthlyRates()[cell], label);
+                assertEquals(quote.getMonthlyEmi(), grid.getMonthlyEmi()[cell], label);
+                assertEquals(quote.getTotalInterest(), grid.getTotalInterest()[cell], label);
+                assertEquals(quote.getTotalPayment(), grid.getTotalPayment()[cell], label);
+            }
+        }
+    }
+
+    @Test
+    void invalidGridsAreRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> emiService.calculateGrid(new EmiGridRequest(new double[]{1000, -1}, new int[]{12})));
+        assertThrows(IllegalArgumentException.class,
+                () -> emiService.calculateGrid(new EmiGridRequest(new double[]{1000}, new int[0])));
+        assertThrows(IllegalArgumentException.class,
+                () -> emiService.calculateGrid(new EmiGridRequest(new double[]{0.004}, new int[]{12})));
+        assertThrows(IllegalArgumentException.class,
+                () -> emiService.calculateGrid(new EmiGridRequest(new double[1000], new int[101])));
+    }
+}
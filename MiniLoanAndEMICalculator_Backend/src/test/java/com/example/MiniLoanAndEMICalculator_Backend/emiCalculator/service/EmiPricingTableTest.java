@@ -0,0 +1,69 @@
+package com.example.MiniLoanAndEMICalculator_Backend.emiCalculator.service;
+
+import com.example.MiniLoanAndEMICalculator_Backend.emiCalculator.dto.EmiRequest;
+import com.example.MiniLoanAndEMICalculator_Backend.emiCalculator.dto.EmiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EmiPricingTableTest {
+
+    private final EmiService emiService = new EmiService(new ObjectMapper());
+
+    @Test
+    void tableMatchesFormulaAcrossWholeGrid() {
+        for (int amount = 1000; amount <= 50000; amount++) {
+            for (int months = 1; months <= 24; months++) {
+                assertSameQuote(amount, months);
+            }
+        }
+    }
+
+    @Test
+    void clampedAmountsUseEdgeCells() {
+        for (int months = 1; months <= 24; months++) {
+            assertSameQuote(1, months);
+            assertSameQuote(999.5, months);
+            assertSameQuote(50000.25, months);
+            assertSameQuote(1_000_000, months);
+        }
+    }
+
+    @Test
+    void fractionalAmountsAndLongTenuresFallBackToFormula() {
+        EmiPricingTable table = new EmiPricingTable(1000, 50000, 1, 24, emiService::calculateRate);
+
+        assertFalse(table.covers(12345.67, 12));
+        assertFalse(table.covers(10000, 36));
+        assertTrue(table.covers(10000, 24));
+
+        assertSameQuote(12345.67, 12);
+        assertSameQuote(10000, 36);
+    }
+
+    @Test
+    void ratesThatDoNotFitACellAreRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new EmiPricingTable(1000, 1010, 1, 2, (amount, months) -> 327.68));
+        assertThrows(IllegalArgumentException.class,
+                () -> new EmiPricingTable(1000, 1010, 1, 2, (amount, months) -> -1));
+
+        EmiPricingTable edge = new EmiPricingTable(1000, 1010, 1, 2, (amount, months) -> EmiPricingTable.MAX_RATE);
+        assertEquals(327.67, edge.roundedRate(edge.cell(1005, 2)));
+    }
+
+    private void assertSameQuote(double amount, int months) {
+        EmiResponse expected = emiService.calculateEmiByFormula(amount, months);
+        EmiResponse actual = emiService.calculateEmi(new EmiRequest(amount, months));
+
+        String cell = amount + " x " + months;
+        assertEquals(expected.getMonthlyRates(), actual.getMonthlyRates(), cell);
+        assertEquals(expected.getMonthlyEmi(), actual.getMonthlyEmi(), cell);
+        assertEquals(expected.getTotalInterest(), actual.getTotalInterest(), cell);
+        assertEquals(expected.getTotalPayment(), actual.getTotalPayment(), cell);
+    }
+}
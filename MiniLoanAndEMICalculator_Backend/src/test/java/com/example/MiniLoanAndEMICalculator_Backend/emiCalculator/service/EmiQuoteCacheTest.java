@@ -0,0 +1,82 @@
+package com.example.MiniLoanAndEMICalculator_Backend.emiCalculator.service;
+
+import com.example.MiniLoanAndEMICalculator_Backend.emiCalculator.dto.EmiRequest;
+import com.example.MiniLoanAndEMICalculator_Backend.emiCalculator.dto.EmiResponse;
+import com.example.MiniLoanAndEMICalculator_Backend.emiCalculator.dto.QuoteCacheStats;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EmiQuoteCacheTest {
+
+    @Test
+    void repeatedQuotesAreHitsAndSubPaisaAmountsShareOneEntry() {
+        EmiService emiService = new EmiService(new ObjectMapper(), 100);
+
+        EmiResponse first = emiService.calculateEmi(new EmiRequest(10_000.001, 12));
+        EmiResponse second = emiService.calculateEmi(new EmiRequest(10_000.004, 12));
+        emiService.calculateEmi(new EmiRequest(10_000.0, 12));
+        emiService.calculateEmi(new EmiRequest(10_000.01, 12));
+
+        QuoteCacheStats stats = emiService.getQuoteCacheStats();
+        assertSame(first, second);
+        assertEquals(10_000.0, first.getAmount());
+        assertEquals(2, stats.getHits());
+        assertEquals(2, stats.getMisses());
+        assertEquals(2, stats.getSize());
+    }
+
+    @Test
+    void cacheIsBoundedBySize() throws InterruptedException {
+        EmiService emiService = new EmiService(new ObjectMapper(), 10);
+
+        for (int amount = 1000; amount < 1200; amount++) {
+            emiService.calculateEmi(new EmiRequest((double) amount, 12));
+        }
+
+        // Caffeine evicts in its maintenance task, which may run just after the writes
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        QuoteCacheStats stats = emiService.getQuoteCacheStats();
+        while (stats.getSize() > 10 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            emiService.calculateEmi(new EmiRequest(1000.0, 12));
+            stats = emiService.getQuoteCacheStats();
+        }
+        assertTrue(stats.getSize() <= 10, "size " + stats.getSize());
+        assertTrue(stats.getEvictions() >= 190, "evictions " + stats.getEvictions());
+        assertEquals(10, stats.getMaxSize());
+    }
+
+    @Test
+    void updatingRatesDropsCachedQuotes() {
+        EmiService emiService = new EmiService(new ObjectMapper(), 100);
+        EmiRequest request = new EmiRequest(10_000.0, 12);
+        EmiResponse before = emiService.calculateEmi(request);
+        emiService.calculateEmi(request);
+
+        emiService.updateRates(5.0, 20.0);
+        EmiResponse after = emiService.calculateEmi(request);
+
+        QuoteCacheStats stats = emiService.getQuoteCacheStats();
+        assertNotEquals(before.getMonthlyRates(), after.getMonthlyRates());
+        assertEquals(emiService.calculateEmiByFormula(10_000.0, 12).getMonthlyEmi(), after.getMonthlyEmi());
+        assertEquals(1, stats.getHits());
+        assertEquals(2, stats.getMisses());
+        assertEquals(1, stats.getSize());
+    }
+
+    @Test
+    void ratesOutsideTheSupportedRangeAreRejected() {
+        EmiService emiService = new EmiService(new ObjectMapper(), 100);
+
+        assertThrows(IllegalArgumentException.class, () -> emiService.updateRates(3.0, EmiService.MAX_RATE + 0.01));
+        assertThrows(IllegalArgumentException.class, () -> emiService.updateRates(0, 10.0));
+        assertThrows(IllegalArgumentException.class, () -> emiService.updateRates(10.0, 5.0));
+        emiService.updateRates(3.0, EmiService.MAX_RATE);
+    }
+}
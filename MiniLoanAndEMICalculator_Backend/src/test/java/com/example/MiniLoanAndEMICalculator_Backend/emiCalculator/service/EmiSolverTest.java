@@ -0,0 +1,84 @@
+package com.example.MiniLoanAndEMICalculator_Backend.emiCalculator.service;
+
+import com.example.MiniLoanAndEMICalculator_Backend.emiCalculator.dto.EmiRequest;
+import com.example.MiniLoanAndEMICalculator_Backend.emiCalculator.dto.EmiResponse;
+import com.example.MiniLoanAndEMICalculator_Backend.util.Money;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EmiSolverTest {
+
+    private final EmiService emiService = new EmiService(new ObjectMapper());
+
+    private double quotedEmi(double amount, int months) {
+        return emiService.calculateEmi(new EmiRequest(amount, months)).getMonthlyEmi();
+    }
+
+    @Test
+    void maxPrincipalIsTheLargestAmountWhoseEmiFits() {
+        // Below, inside and above the amount range where the rate varies
+        double[] targets = {10, 99.99, 500, 1234.56, 2000, 4321.09, 10_000, 60_000};
+        for (double target : targets) {
+            for (int months : new int[]{1, 2, 6, 12, 24, 36}) {
+                EmiResponse quote = emiService.solveMaxPrincipal(target, months);
+                double onePaisaMore = Math.round(quote.getAmount() * 100.0 + 1) / 100.0;
+
+                String label = target + " / " + months;
+                assertEquals(months, quote.getMonths(), label);
+                assertEquals(quotedEmi(quote.getAmount(), months), quote.getMonthlyEmi(), label);
+                assertTrue(quote.getMonthlyEmi() <= target, label + ": " + quote.getMonthlyEmi());
+                assertTrue(quotedEmi(onePaisaMore, months) > target, label + ": " + onePaisaMore + " still fits");
+            }
+        }
+    }
+
+    @Test
+    void minTenureIsTheShortestTenureWhoseEmiFits() {
+        double[] amounts = {500, 1000, 7500, 12_345.67, 50_000, 80_000};
+        double[] targets = {100, 450.5, 1000, 2500, 9000, 60_000};
+        for (double amount : amounts) {
+            for (double target : targets) {
+                EmiResponse quote;
+                try {
+                    quote = emiService.solveMinTenure(target, amount);
+                } catch (IllegalArgumentException e) {
+                    // Only when the EMI cannot even cover the interest
+                    assertTrue(target <= amount * 0.1, amount + " / " + target);
+                    continue;
+                }
+
+                String label = amount + " / " + target;
+                assertEquals(quotedEmi(amount, quote.getMonths()), quote.getMonthlyEmi(), label);
+                assertTrue(quote.getMonthlyEmi() <= target, label + ": " + quote.getMonthlyEmi());
+                if (quote.getMonths() > 1) {
+                    assertTrue(quotedEmi(amount, quote.getMonths() - 1) > target,
+                            label + ": " + (quote.getMonths() - 1) + " months still fit");
+                }
+            }
+        }
+    }
+
+    @Test
+    void hugeTargetsAreSolvedOrRejectedWithoutSpinning() {
+        // Just under the exact-paise limit the rounding steps still move a paisa at a time
+        EmiResponse large = emiService.solveMaxPrincipal(1e12, 12);
+        assertTrue(large.getAmount() < Money.MAX_RUPEES, String.valueOf(large.getAmount()));
+        assertTrue(large.getMonthlyEmi() <= 1e12);
+
+        assertThrows(IllegalArgumentException.class, () -> emiService.solveMaxPrincipal(1e14, 12));
+        assertThrows(IllegalArgumentException.class, () -> emiService.solveMaxPrincipal(1e300, 12));
+        assertThrows(IllegalArgumentException.class, () -> emiService.solveMaxPrincipal(Double.POSITIVE_INFINITY, 12));
+    }
+
+    @Test
+    void unpayableTargetsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> emiService.solveMaxPrincipal(0.001, 12));
+        assertThrows(IllegalArgumentException.class, () -> emiService.solveMaxPrincipal(0, 12));
+        assertThrows(IllegalArgumentException.class, () -> emiService.solveMinTenure(1, 50_000));
+        assertThrows(IllegalArgumentException.class, () -> emiService.solveMinTenure(-1, 1000));
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.MiniLoanAndEMICalculator_Backend.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AuthenticatedUserArgumentResolverTest {
+
+    private final AuthenticatedUserArgumentResolver resolver = new AuthenticatedUserArgumentResolver();
+
+    @SuppressWarnings("unused")
+    private void handler(AuthenticatedUser user, String other) {
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void resolvesThePrincipalSetByTheFilter() throws Exception {
+        MethodParameter userParam = parameter(0);
+        AuthenticatedUser user = new AuthenticatedUser(7L, "u@x.com", "ROLE_USER");
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                user, null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+
+        assertTrue(resolver.supportsParameter(userParam));
+        assertFalse(resolver.supportsParameter(parameter(1)));
+        assertSame(user, resolver.resolveArgument(userParam, null, null, null));
+    }
+
+    @Test
+    void failsAsUnauthenticatedWithoutAPrincipal() throws Exception {
+        MethodParameter userParam = parameter(0);
+
+        assertThrows(AuthenticationCredentialsNotFoundException.class,
+                () -> resolver.resolveArgument(userParam, null, null, null));
+    }
+
+    private MethodParameter parameter(int index) throws NoSuchMethodException {
+        return new MethodParameter(getClass().getDeclaredMethod("handler", AuthenticatedUser.class, String.class), index);
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.MiniLoanAndEMICalculator_Backend.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class JwtUtilTest {
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Value("${app.jwt.secret}")
+    private String secret;
+
+    @Test
+    void verifiedClaimsAreReusedForTheSameToken() {
+        String token = jwtUtil.generateToken("cached@x.com");
+
+        Claims first = jwtUtil.extractAllClaims(token);
+
+        assertSame(first, jwtUtil.extractAllClaims(token));
+        assertEquals("cached@x.com", jwtUtil.extractUsername(token));
+        assertTrue(jwtUtil.validateToken(token, "cached@x.com"));
+        assertFalse(jwtUtil.validateToken(token, "other@x.com"));
+    }
+
+    @Test
+    void tamperedExpiredAndMissingTokensAreRejected() {
+        String token = jwtUtil.generateToken("tamper@x.com");
+        jwtUtil.extractAllClaims(token);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        String expired = Jwts.builder()
+                .setSubject("expired@x.com")
+                .setExpiration(new Date(System.currentTimeMillis() - 1_000))
+                .signWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS512)
+                .compact();
+
+        assertFalse(jwtUtil.validateToken(tampered));
+        assertFalse(jwtUtil.validateToken(expired));
+        assertFalse(jwtUtil.validateToken(expired, "expired@x.com"));
+        assertFalse(jwtUtil.validateToken(null));
+    }
+
+    @Test
+    void revokedTokensFailValidationWhileOthersStillPass() {
+        String revoked = jwtUtil.generateToken("logout@x.com");
+        String other = jwtUtil.generateToken("logout@x.com");
+        assertTrue(jwtUtil.validateToken(revoked, "logout@x.com"));
+
+        jwtUtil.revokeToken(revoked);
+
+        assertFalse(jwtUtil.validateToken(revoked, "logout@x.com"));
+        assertFalse(jwtUtil.validateToken(revoked));
+        assertTrue(jwtUtil.validateToken(other, "logout@x.com"));
+    }
+}
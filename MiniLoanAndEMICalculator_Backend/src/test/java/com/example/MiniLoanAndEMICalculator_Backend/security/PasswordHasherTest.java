@@ -0,0 +1,87 @@
+package com.example.MiniLoanAndEMICalculator_Backend.security;
+
+import com.example.MiniLoanAndEMICalculator_Backend.user.entity.User;
+import com.example.MiniLoanAndEMICalculator_Backend.user.repository.UserRepository;
+import com.example.MiniLoanAndEMICalculator_Backend.user.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class PasswordHasherTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void callsBeyondTheQueueAreRefusedInsteadOfWaiting() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blocking = new BCryptPasswordEncoder(4) {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.encode(rawPassword);
+            }
+        };
+        PasswordHasher hasher = new PasswordHasher(blocking, 1, 1, Duration.ofSeconds(3));
+        try {
+            CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> hasher.encode("first"));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> hasher.encode("second"));
+            while (hasher.queuedTasks() == 0) {
+                Thread.onSpinWait();
+            }
+
+            PasswordHashingBusyException busy = assertThrows(PasswordHashingBusyException.class,
+                    () -> hasher.encode("third"));
+            assertEquals(3, busy.getRetryAfterSeconds());
+
+            release.countDown();
+            assertTrue(blocking.matches("first", running.get(5, TimeUnit.SECONDS)));
+            assertTrue(blocking.matches("second", queued.get(5, TimeUnit.SECONDS)));
+            assertEquals(1, hasher.getStats().get(PasswordHasher.Operation.ENCODE).getRejected());
+            assertEquals(2, hasher.getStats().get(PasswordHasher.Operation.ENCODE).getCompleted());
+        } finally {
+            release.countDown();
+            hasher.shutdown();
+        }
+    }
+
+    @Test
+    void loginUpgradesAWeakerHashInTheBackground() throws Exception {
+        String weakHash = new BCryptPasswordEncoder(4).encode("secret1");
+        userRepository.save(new User("Rehash", "rehash-user@x.com", weakHash, "dev", 30_000.0,
+                "900000000201", "REHSH1234A", "ROLE_USER"));
+
+        userService.authenticate("rehash-user@x.com", "secret1");
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        String stored = weakHash;
+        while (stored.equals(weakHash) && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+            stored = userRepository.findByEmail("rehash-user@x.com").orElseThrow().getPassword();
+        }
+        assertTrue(stored.startsWith("$2a$10$"), stored);
+        assertEquals("rehash-user@x.com", userService.authenticate("rehash-user@x.com", "secret1").getEmail());
+    }
+}
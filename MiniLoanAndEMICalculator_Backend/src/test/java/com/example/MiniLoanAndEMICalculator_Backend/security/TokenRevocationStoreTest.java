@@ -0,0 +1,49 @@
+package com.example.MiniLoanAndEMICalculator_Backend.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenRevocationStoreTest {
+
+    private static Date inOneHour() {
+        return new Date(System.currentTimeMillis() + 3_600_000);
+    }
+
+    @Test
+    void revokedIdsStayRevokedAcrossFilterRebuilds() {
+        TokenRevocationStore store = new TokenRevocationStore(8, 0.01);
+
+        for (int i = 0; i < 100; i++) {
+            store.revoke("jti-" + i, inOneHour());
+        }
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(store.isRevoked("jti-" + i), "jti-" + i);
+        }
+        for (int i = 100; i < 1_000; i++) {
+            assertFalse(store.isRevoked("jti-" + i));
+        }
+        assertEquals(100, store.size());
+    }
+
+    @Test
+    void entriesAreDroppedOnceTheTokenWouldHaveExpired() throws InterruptedException {
+        TokenRevocationStore store = new TokenRevocationStore(100, 0.01);
+
+        store.revoke("expired", new Date(System.currentTimeMillis() - 1_000));
+        store.revoke("short-lived", new Date(System.currentTimeMillis() + 50));
+        store.revoke(null, inOneHour());
+        assertTrue(store.isRevoked("short-lived"));
+
+        Thread.sleep(100);
+
+        assertFalse(store.isRevoked("expired"));
+        assertFalse(store.isRevoked("short-lived"));
+        assertFalse(store.isRevoked(null));
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.MiniLoanAndEMICalculator_Backend.user.service;
+
+import com.example.MiniLoanAndEMICalculator_Backend.user.dto.ChangePasswordRequest;
+import com.example.MiniLoanAndEMICalculator_Backend.user.dto.UpdateProfileRequest;
+import com.example.MiniLoanAndEMICalculator_Backend.user.dto.UserCacheStats;
+import com.example.MiniLoanAndEMICalculator_Backend.user.entity.User;
+import com.example.MiniLoanAndEMICalculator_Backend.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class UserDetailsCacheTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Test
+    void repeatedLookupsAreServedFromTheCache() {
+        userRepository.save(new User("Cached", "cached-user@x.com", "hash", "dev", 30_000.0,
+                "900000000101", "CACHE1234A", "ROLE_USER"));
+        userService.loadUserByUsername("cached-user@x.com");
+        UserCacheStats before = userService.getUserCacheStats();
+
+        for (int i = 0; i < 5; i++) {
+            userService.loadUserByUsername("cached-user@x.com");
+        }
+
+        UserCacheStats after = userService.getUserCacheStats();
+        assertEquals(before.getHits() + 5, after.getHits());
+        assertEquals(before.getMisses(), after.getMisses());
+        assertThrows(UsernameNotFoundException.class, () -> userService.loadUserByUsername("nobody@x.com"));
+    }
+
+    @Test
+    void profileAndPasswordChangesEvictTheCachedUser() {
+        User saved = userRepository.save(new User("Evict", "evict-user@x.com", passwordEncoder.encode("old-secret"),
+                "dev", 30_000.0, "900000000102", "EVICT1234A", "ROLE_USER"));
+        userService.loadUserByUsername("evict-user@x.com");
+
+        UpdateProfileRequest profile = new UpdateProfileRequest();
+        profile.setOccupation("qa");
+        profile.setMonthlyIncome(45_000.0);
+        userService.updateProfile(saved.getId(), profile);
+        assertEquals("qa", ((User) userService.loadUserByUsername("evict-user@x.com")).getOccupation());
+
+        ChangePasswordRequest password = new ChangePasswordRequest();
+        password.setOldPassword("old-secret");
+        password.setNewPassword("new-secret");
+        userService.changePassword(saved.getId(), password);
+        assertTrue(passwordEncoder.matches("new-secret", userService.loadUserByUsername("evict-user@x.com").getPassword()));
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.MiniLoanAndEMICalculator_Backend.util;
+
+import com.example.MiniLoanAndEMICalculator_Backend.emiCalculator.dto.EmiRequest;
+import com.example.MiniLoanAndEMICalculator_Backend.emiCalculator.dto.EmiResponse;
+import com.example.MiniLoanAndEMICalculator_Backend.emiCalculator.service.EmiService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AmortizationScheduleTest {
+
+    private final EmiService emiService = new EmiService(new ObjectMapper());
+
+    @Test
+    void rowsAddUpToTheQuoteAndClearTheBalance() {
+        for (double amount : new double[]{1000, 12345.67, 12345.678, 50000, 250000}) {
+            for (int months : new int[]{1, 7, 12, 24, 60}) {
+                EmiRequest request = new EmiRequest(amount, months);
+                EmiResponse quote = emiService.calculateEmi(request);
+                AmortizationSchedule schedule = emiService.generateSchedule(request);
+
+                // Small chunks so the balance is carried across fill() calls
+                double[] principal = new double[5];
+                double[] interest = new double[5];
+                double[] balance = new double[5];
+                long principalPaise = 0;
+                long paidPaise = 0;
+                double lastBalance = amount;
+                int rows = 0;
+                while (schedule.hasNext()) {
+                    int filled = schedule.fill(principal, interest, balance);
+                    for (int i = 0; i < filled; i++) {
+                        principalPaise += Money.ofRupees(principal[i]);
+                        paidPaise += Money.ofRupees(principal[i]) + Money.ofRupees(interest[i]);
+                        lastBalance = balance[i];
+                    }
+                    rows += filled;
+                }
+
+                String label = amount + " x " + months;
+                assertEquals(months, rows, label);
+                assertEquals(0.0, lastBalance, label);
+                assertEquals(Money.ofRupees(amount), principalPaise, label);
+                // Each month pays the rounded EMI, so the total can drift from the quote by at most a paisa a month
+                assertTrue(Math.abs(paidPaise - Money.ofRupees(quote.getTotalPayment())) <= months,
+                        label + ": paid " + paidPaise + " vs " + quote.getTotalPayment());
+            }
+        }
+    }
+
+    @Test
+    void ndjsonHasOneRowPerMonthEndingAtZero() throws Exception {
+        AmortizationSchedule schedule = new AmortizationSchedule(10_000, 0.01, 888.49, 12);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        schedule.writeNdjson(out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(12, lines.length);
+        ObjectMapper mapper = new ObjectMapper();
+        JsonNode first = mapper.readTree(lines[0]);
+        JsonNode last = mapper.readTree(lines[11]);
+        assertEquals(1, first.get("month").asInt());
+        assertEquals(100.0, first.get("interest").asDouble());
+        assertEquals(788.49, first.get("principal").asDouble());
+        assertEquals(12, last.get("month").asInt());
+        assertEquals(0.0, last.get("balance").asDouble());
+        assertFalse(schedule.hasNext());
+    }
+
+    @Test
+    void schedulesLongerThanFiftyYearsAreRejected() {
+        assertEquals(600, emiService.generateSchedule(new EmiRequest(10_000.0, 600)).getMonths());
+        assertThrows(IllegalArgumentException.class,
+                () -> emiService.generateSchedule(new EmiRequest(10_000.0, 601)));
+    }
+
+    @Test
+    void invalidParametersAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new AmortizationSchedule(0, 0.01, 100, 12));
+        assertThrows(IllegalArgumentException.class, () -> new AmortizationSchedule(1000, 0.01, 100, 0));
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.MiniLoanAndEMICalculator_Backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EmiCalculatorTest {
+
+    @Test
+    void principalForEmiInvertsTheAnnuityFactor() {
+        for (double rate : new double[]{0, 0.001, 0.01, 0.05}) {
+            for (int months : new int[]{1, 12, 24, 360}) {
+                double principal = EmiCalculator.principalForEmi(1_000, rate, months);
+                assertEquals(1_000, principal * EmiCalculator.annuityFactor(rate, months), 1e-9,
+                        rate + " / " + months);
+            }
+        }
+        assertEquals(12_000, EmiCalculator.principalForEmi(1_000, 0, 12), 1e-9);
+    }
+
+    @Test
+    void tenureForEmiInvertsTheAnnuityFactor() {
+        for (double rate : new double[]{0.001, 0.01, 0.05}) {
+            for (int months : new int[]{1, 7, 24, 120}) {
+                double emi = 10_000 * EmiCalculator.annuityFactor(rate, months);
+                assertEquals(months, EmiCalculator.tenureForEmi(10_000, emi, rate), 1e-9, rate + " / " + months);
+            }
+        }
+        assertEquals(12.5, EmiCalculator.tenureForEmi(10_000, 800, 0), 1e-12);
+    }
+
+    @Test
+    void tenureIsInfiniteWhenTheEmiDoesNotCoverInterest() {
+        assertEquals(Double.POSITIVE_INFINITY, EmiCalculator.tenureForEmi(10_000, 100, 0.01));
+        assertEquals(Double.POSITIVE_INFINITY, EmiCalculator.tenureForEmi(10_000, 50, 0.01));
+        assertTrue(Double.isFinite(EmiCalculator.tenureForEmi(10_000, 100.01, 0.01)));
+    }
+
+    @Test
+    void rateDerivativeMatchesFiniteDifference() {
+        for (double rate : new double[]{0.001, 0.01, 0.05}) {
+            for (int months : new int[]{1, 12, 24}) {
+                double h = 1e-7;
+                double numeric = (EmiCalculator.annuityFactor(rate + h, months)
+                        - EmiCalculator.annuityFactor(rate - h, months)) / (2 * h);
+                assertEquals(numeric, EmiCalculator.annuityFactorRateDerivative(rate, months), 1e-5,
+                        rate + " / " + months);
+            }
+        }
+    }
+}
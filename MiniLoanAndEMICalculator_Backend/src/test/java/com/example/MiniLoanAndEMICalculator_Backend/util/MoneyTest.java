@@ -0,0 +1,70 @@
+package com.example.MiniLoanAndEMICalculator_Backend.util;
+
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.entity.Loan;
+import com.example.MiniLoanAndEMICalculator_Backend.MiniLoan.entity.Payment;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MoneyTest {
+
+    @Test
+    void rupeesRoundHalfUpToTheNearestPaisa() {
+        assertEquals(88849, Money.ofRupees(888.49));
+        assertEquals(1013, Money.ofRupees(10.125));
+        assertEquals(1012, Money.ofRupees(10.1249));
+        assertEquals(1, Money.ofRupees(0.005));
+        assertEquals(0, Money.ofRupees(0.0049));
+        // Summing rupee doubles drifts; paise do not
+        assertEquals(30, Money.ofRupees(0.1 + 0.2));
+    }
+
+    @Test
+    void negativeAmountsRoundLikeMathRound() {
+        assertEquals(-88849, Money.ofRupees(-888.49));
+        assertEquals(-1012, Money.ofRupees(-10.125));
+        assertEquals(-1013, Money.ofRupees(-10.1251));
+        assertEquals(-10.12, Money.toRupees(-1012));
+    }
+
+    @Test
+    void largeAmountsStayExactAndOverflowIsRejected() {
+        assertEquals(100_000_000_000_037L, Money.ofRupees(1_000_000_000_000.37));
+        assertEquals(1_000_000_000_000.37, Money.toRupees(100_000_000_000_037L));
+        assertThrows(IllegalArgumentException.class, () -> Money.ofRupees(1e14));
+        assertThrows(IllegalArgumentException.class, () -> Money.ofRupees(-1e14));
+        assertThrows(IllegalArgumentException.class, () -> Money.ofRupees(Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> Money.ofRupees(Double.POSITIVE_INFINITY));
+        assertThrows(ArithmeticException.class, () -> Money.add(Long.MAX_VALUE, 1));
+    }
+
+    @Test
+    void twoDecimalAmountsRoundTrip() {
+        for (long paise = -100_000; paise <= 100_000; paise += 7) {
+            assertEquals(paise, Money.ofRupees(Money.toRupees(paise)));
+        }
+    }
+
+    @Test
+    void boxedEntitySettersTreatNullAsZero() {
+        Loan loan = new Loan(1L, null, 12.0, 12);
+        loan.setEmi(null);
+        loan.setTotalPayable(null);
+        loan.setPaidAmount(null);
+        loan.setRemainingAmount(null);
+        assertEquals(0, loan.getLoanAmountPaise());
+        assertEquals(0.0, loan.getEmi());
+        assertEquals(0.0, loan.getTotalPayable());
+        assertEquals(0.0, loan.getPaidAmount());
+        assertEquals(0.0, loan.getRemainingAmount());
+
+        loan.setLoanAmount(10_000.555);
+        assertEquals(1_000_056, loan.getLoanAmountPaise());
+
+        Payment payment = new Payment(1L, null, Payment.PaymentType.EMI);
+        assertEquals(0, payment.getAmountPaidPaise());
+        payment.setAmountPaid(888.49);
+        assertEquals(88849, payment.getAmountPaidPaise());
+    }
+}